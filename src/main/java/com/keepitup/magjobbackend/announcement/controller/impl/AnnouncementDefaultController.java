@@ -17,6 +17,7 @@ import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.organization.service.impl.OrganizationDefaultService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -62,8 +63,8 @@ public class AnnouncementDefaultController implements AnnouncementController {
         }
   
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = announcementService.findAll().size();
-        return announcementsToResponseFunction.apply(announcementService.findAll(pageRequest), count);
+        Page<Announcement> announcements = announcementService.findAll(pageRequest);
+        return announcementsToResponseFunction.apply(announcements);
     }
 
     @Override
@@ -89,9 +90,9 @@ public class AnnouncementDefaultController implements AnnouncementController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
       
-        Integer count = announcementService.findAllByOrganization(organization, pageRequest).getNumberOfElements();
+        Page<Announcement> announcements = announcementService.findAllByOrganization(organization, pageRequest);
 
-        return announcementsToResponseFunction.apply(announcementService.findAllByOrganization(organization, pageRequest), count);
+        return announcementsToResponseFunction.apply(announcements);
     }
 
     @Override
@@ -106,10 +107,10 @@ public class AnnouncementDefaultController implements AnnouncementController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        announcementService.create(requestToAnnouncementFunction.apply(postAnnouncementRequest));
-        return announcementService.findByTitle(postAnnouncementRequest.getTitle())
-                .map(announcementToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        Announcement announcement = requestToAnnouncementFunction.apply(postAnnouncementRequest);
+        announcement.setOrganization(organization.get());
+
+        return announcementToResponseFunction.apply(announcementService.create(announcement));
     }
 
     @Override
@@ -128,8 +129,9 @@ public class AnnouncementDefaultController implements AnnouncementController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        announcementService.update(updateAnnouncementWithRequestFunction.apply(announcement, patchAnnouncementRequest));
-        return getAnnouncement(id);
+        return announcementToResponseFunction.apply(
+                announcementService.update(updateAnnouncementWithRequestFunction.apply(announcement, patchAnnouncementRequest))
+        );
     }
 
     @Override
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.announcement.entity.Announcement;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class AnnouncementsToResponseFunction implements BiFunction<Page<Announcement>, Integer, GetAnnouncementsResponse> {
+public class AnnouncementsToResponseFunction implements Function<Page<Announcement>, GetAnnouncementsResponse> {
     @Override
-    public GetAnnouncementsResponse apply(Page<Announcement> announcements, Integer count) {
+    public GetAnnouncementsResponse apply(Page<Announcement> announcements) {
         return GetAnnouncementsResponse.builder()
                 .announcements(announcements.stream()
                         .map(announcement -> GetAnnouncementsResponse.Announcement.builder()
@@ -20,7 +20,7 @@ public class AnnouncementsToResponseFunction implements BiFunction<Page<Announce
                                 .organizationId(announcement.getOrganization().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(announcements.getTotalElements()))
                 .build();
     }
 }
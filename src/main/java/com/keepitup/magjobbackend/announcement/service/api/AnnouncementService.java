@@ -25,9 +25,9 @@ public interface AnnouncementService {
 
     Page<Announcement> findAllByOrganization(Organization organization, Pageable pageable);
 
-    void create(Announcement announcement);
+    Announcement create(Announcement announcement);
 
     void delete(BigInteger id);
 
-    void update(Announcement announcement);
+    Announcement update(Announcement announcement);
 }
@@ -59,8 +59,8 @@ public class AnnouncementDefaultService implements AnnouncementService {
     }
 
     @Override
-    public void create(Announcement announcement) {
-        announcementRepository.save(announcement);
+    public Announcement create(Announcement announcement) {
+        return announcementRepository.save(announcement);
     }
 
     @Override
@@ -69,7 +69,7 @@ public class AnnouncementDefaultService implements AnnouncementService {
     }
 
     @Override
-    public void update(Announcement announcement) {
-        announcementRepository.save(announcement);
+    public Announcement update(Announcement announcement) {
+        return announcementRepository.save(announcement);
     }
 }
@@ -7,6 +7,7 @@ import com.keepitup.magjobbackend.announcementreceiver.dto.GetAnnouncementReceiv
 import com.keepitup.magjobbackend.announcementreceiver.dto.GetAnnouncementReceiversResponse;
 import com.keepitup.magjobbackend.announcementreceiver.dto.PatchAnnouncementReceiverRequest;
 import com.keepitup.magjobbackend.announcementreceiver.dto.PostAnnouncementReceiverRequest;
+import com.keepitup.magjobbackend.announcementreceiver.entity.AnnouncementReceiver;
 import com.keepitup.magjobbackend.announcementreceiver.function.AnnouncementReceiverToResponseFunction;
 import com.keepitup.magjobbackend.announcementreceiver.function.AnnouncementReceiversToResponseFunction;
 import com.keepitup.magjobbackend.announcementreceiver.function.RequestToAnnouncementReceiverFunction;
@@ -19,8 +20,8 @@ import com.keepitup.magjobbackend.notification.entity.Notification;
 import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -64,8 +65,8 @@ public class AnnouncementReceiverDefaultController implements AnnouncementReceiv
     @Override
     public GetAnnouncementReceiversResponse getAnnouncementReceivers(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = announcementReceiverService.findAll().size();
-        return announcementReceiversToResponseFunction.apply(announcementReceiverService.findAll(pageRequest), count);
+        Page<AnnouncementReceiver> announcementReceivers = announcementReceiverService.findAll(pageRequest);
+        return announcementReceiversToResponseFunction.apply(announcementReceivers);
     }
 
     @Override
@@ -83,9 +84,9 @@ public class AnnouncementReceiverDefaultController implements AnnouncementReceiv
         Announcement announcement = announcementOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Integer count = announcementReceiverService.findAllByAnnouncement(announcement, Pageable.unpaged()).getNumberOfElements();
+        Page<AnnouncementReceiver> announcementReceivers = announcementReceiverService.findAllByAnnouncement(announcement, pageRequest);
 
-        return announcementReceiversToResponseFunction.apply(announcementReceiverService.findAllByAnnouncement(announcement, pageRequest), count);
+        return announcementReceiversToResponseFunction.apply(announcementReceivers);
     }
 
     @Override
@@ -96,41 +97,41 @@ public class AnnouncementReceiverDefaultController implements AnnouncementReceiv
         Member member = memberOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Integer count = announcementReceiverService.findAllByMember(member, Pageable.unpaged()).getNumberOfElements();
+        Page<AnnouncementReceiver> announcementReceivers = announcementReceiverService.findAllByMember(member, pageRequest);
 
-        return announcementReceiversToResponseFunction.apply(announcementReceiverService.findAllByMember(member, pageRequest), count);
+        return announcementReceiversToResponseFunction.apply(announcementReceivers);
     }
 
     @Override
     public GetAnnouncementReceiverResponse createAnnouncementReceiver(PostAnnouncementReceiverRequest postAnnouncementReceiverRequest) {
-        announcementReceiverService.create(requestToAnnouncementReceiverFunction.apply(postAnnouncementReceiverRequest));
-
         Member member = memberService.find(postAnnouncementReceiverRequest.getMember()).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
+        Announcement announcement = announcementService.find(postAnnouncementReceiverRequest.getAnnouncement()).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        AnnouncementReceiver announcementReceiver = requestToAnnouncementReceiverFunction.apply(postAnnouncementReceiverRequest);
+        announcementReceiver.setMember(member);
+        announcementReceiver.setAnnouncement(announcement);
+
+        AnnouncementReceiver createdAnnouncementReceiver = announcementReceiverService.create(announcementReceiver);
+
         notificationService.create(Notification.builder()
                 .member(member)
                 .content(String.format(Constants.NOTIFICATION_ANNOUNCEMENT_RECEIVER_CREATION_TEMPLATE, member.getOrganization().getName()))
                 .build());
 
-        return announcementReceiverService.findByMemberAndAnnouncement(
-                        memberService.find(postAnnouncementReceiverRequest.getMember()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)),
-                        announcementService.find(postAnnouncementReceiverRequest.getAnnouncement()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)))
-                .map(announcementReceiverToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return announcementReceiverToResponseFunction.apply(createdAnnouncementReceiver);
     }
 
     @Override
     public GetAnnouncementReceiverResponse updateAnnouncementReceiver(BigInteger id, PatchAnnouncementReceiverRequest patchAnnouncementReceiverRequest) {
-        announcementReceiverService.find(id)
-                .ifPresentOrElse(
-                        announcementReceiver -> announcementReceiverService.update(updateAnnouncementReceiverWithRequestFunction.apply(announcementReceiver, patchAnnouncementReceiverRequest)),
-                        () -> {
-                            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-                        }
-                );
-        return getAnnouncementReceiver(id);
+        return announcementReceiverService.find(id)
+                .map(announcementReceiver -> announcementReceiverService.update(updateAnnouncementReceiverWithRequestFunction.apply(announcementReceiver, patchAnnouncementReceiverRequest)))
+                .map(announcementReceiverToResponseFunction)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     @Override
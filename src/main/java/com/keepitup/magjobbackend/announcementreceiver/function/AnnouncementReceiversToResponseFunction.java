@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.announcementreceiver.entity.AnnouncementReceiv
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class AnnouncementReceiversToResponseFunction implements BiFunction<Page<AnnouncementReceiver>, Integer, GetAnnouncementReceiversResponse> {
+public class AnnouncementReceiversToResponseFunction implements Function<Page<AnnouncementReceiver>, GetAnnouncementReceiversResponse> {
     @Override
-    public GetAnnouncementReceiversResponse apply(Page<AnnouncementReceiver> announcementReceivers, Integer count) {
+    public GetAnnouncementReceiversResponse apply(Page<AnnouncementReceiver> announcementReceivers) {
         return GetAnnouncementReceiversResponse.builder()
                 .announcementReceivers(announcementReceivers.stream()
                         .map(announcementReceiver -> GetAnnouncementReceiversResponse.AnnouncementReceiver.builder()
@@ -19,7 +19,7 @@ public class AnnouncementReceiversToResponseFunction implements BiFunction<Page<
                                 .announcementId(announcementReceiver.getAnnouncement().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(announcementReceivers.getTotalElements()))
                 .build();
     }
 }
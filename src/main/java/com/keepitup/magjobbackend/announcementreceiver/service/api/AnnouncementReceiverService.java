@@ -23,9 +23,9 @@ public interface AnnouncementReceiverService {
 
     Optional<AnnouncementReceiver> findByMemberAndAnnouncement(Member member, Announcement announcement);
 
-    void create(AnnouncementReceiver announcementReceiver);
+    AnnouncementReceiver create(AnnouncementReceiver announcementReceiver);
 
     void delete(BigInteger id);
 
-    void update(AnnouncementReceiver announcementReceiver);
+    AnnouncementReceiver update(AnnouncementReceiver announcementReceiver);
 }
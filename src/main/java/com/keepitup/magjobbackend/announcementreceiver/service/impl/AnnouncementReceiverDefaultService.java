@@ -54,8 +54,8 @@ public class AnnouncementReceiverDefaultService implements AnnouncementReceiverS
     }
 
     @Override
-    public void create(AnnouncementReceiver announcementReceiver) {
-        announcementReceiverRepository.save(announcementReceiver);
+    public AnnouncementReceiver create(AnnouncementReceiver announcementReceiver) {
+        return announcementReceiverRepository.save(announcementReceiver);
     }
 
     @Override
@@ -64,7 +64,7 @@ public class AnnouncementReceiverDefaultService implements AnnouncementReceiverS
     }
 
     @Override
-    public void update(AnnouncementReceiver announcementReceiver) {
-        announcementReceiverRepository.save(announcementReceiver);
+    public AnnouncementReceiver update(AnnouncementReceiver announcementReceiver) {
+        return announcementReceiverRepository.save(announcementReceiver);
     }
 }
@@ -19,8 +19,8 @@ import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.task.entity.Task;
 import com.keepitup.magjobbackend.task.service.api.TaskService;
 import lombok.extern.java.Log;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -79,9 +79,11 @@ public class AssigneeDefaultController implements AssigneeController {
 
     @Override
     public GetAssigneeResponse assignMemberToTask(PostAssigneeRequest request) {
-        Organization organization = taskService.find(request.getTask()).orElseThrow(
+        Task task = taskService.find(request.getTask()).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-        ).getOrganization();
+        );
+
+        Organization organization = task.getOrganization();
 
         Member member = memberService.find(request.getMember()).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
@@ -91,23 +93,22 @@ public class AssigneeDefaultController implements AssigneeController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-
-        Optional<Assignee> assignee = service.findByMemberAndTask(request.getMember(), request.getTask());
-
-        if (assignee.isPresent()) {
+        if (service.findByMemberAndTask(request.getMember(), request.getTask()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
-        } else {
-            service.create(requestToAssignee.apply(request));
         }
 
+        Assignee assignee = requestToAssignee.apply(request);
+        assignee.setTask(task);
+        assignee.setMember(member);
+
+        Assignee createdAssignee = service.create(assignee);
+
         notificationService.create(Notification.builder()
                 .member(member)
                 .content(String.format(Constants.NOTIFICATION_ASSIGNEE_CREATION_TEMPLATE, organization.getName()))
                 .build());
 
-        return service.findByMemberAndTask(request.getMember(), request.getTask())
-                .map(assigneeToResponse)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return assigneeToResponse.apply(createdAssignee);
     }
 
     @Override
@@ -123,11 +124,9 @@ public class AssigneeDefaultController implements AssigneeController {
         PageRequest pageRequest = PageRequest.of(page, size);
         Optional<Task> task = taskService.find(taskId);
 
-        Integer count = service.findAllByTask(task.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)), Pageable.unpaged()).getNumberOfElements();
+        Page<Assignee> assignees = service.findAllByTask(task.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)), pageRequest);
 
-        return assigneesToResponse.apply(
-                service.findAllByTask(task.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)), pageRequest), count
-        );
+        return assigneesToResponse.apply(assignees);
     }
 
     @Override
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.assignee.entity.Assignee;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class AssigneesToResponseFunction implements BiFunction<Page<Assignee>, Integer, GetAssigneesResponse> {
+public class AssigneesToResponseFunction implements Function<Page<Assignee>, GetAssigneesResponse> {
     @Override
-    public GetAssigneesResponse apply(Page<Assignee> entities, Integer count) {
+    public GetAssigneesResponse apply(Page<Assignee> entities) {
         return GetAssigneesResponse.builder()
                 .assignees(entities.stream()
                         .map(assignee -> GetAssigneesResponse.Assignee.builder()
@@ -18,7 +18,7 @@ public class AssigneesToResponseFunction implements BiFunction<Page<Assignee>, I
                                 .taskId(assignee.getTask().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
@@ -24,13 +24,13 @@ public interface AssigneeService {
 
     Page<Assignee> findAllByTask(Task task, Pageable pageable);
 
-    void create(Assignee assignee);
+    Assignee create(Assignee assignee);
 
     void delete(AssigneeId id);
 
     void delete(BigInteger memberId, BigInteger taskId);
 
-    void update(Assignee assignee);
+    Assignee update(Assignee assignee);
 
     Optional<Page<Task>> findAllTasksByMember(BigInteger memberId, Pageable pageable);
 }
@@ -62,8 +62,8 @@ public class AssigneeDefaultService implements AssigneeService {
     }
 
     @Override
-    public void create(Assignee assignee) {
-        assigneeRepository.save(assignee);
+    public Assignee create(Assignee assignee) {
+        return assigneeRepository.save(assignee);
     }
 
     @Override
@@ -77,8 +77,8 @@ public class AssigneeDefaultService implements AssigneeService {
     }
 
     @Override
-    public void update(Assignee assignee) {
-        assigneeRepository.save(assignee);
+    public Assignee update(Assignee assignee) {
+        return assigneeRepository.save(assignee);
     }
 
     @Override
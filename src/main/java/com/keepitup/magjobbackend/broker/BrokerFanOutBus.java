@@ -0,0 +1,14 @@
+package com.keepitup.magjobbackend.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * Shared channel connecting the message brokers of every node running the application. Listeners
+ * may also receive messages published by their own node, they are expected to skip them using
+ * {@link BrokerFanOutMessage#getOriginNodeId()}.
+ */
+public interface BrokerFanOutBus {
+    void publish(BrokerFanOutMessage message);
+
+    void subscribe(Consumer<BrokerFanOutMessage> listener);
+}
@@ -0,0 +1,15 @@
+package com.keepitup.magjobbackend.broker;
+
+import lombok.Value;
+
+/**
+ * Broker message forwarded between nodes: the already serialized payload together with the
+ * destination it was published to on the originating node.
+ */
+@Value
+public class BrokerFanOutMessage {
+    String originNodeId;
+    String destination;
+    String contentType;
+    byte[] payload;
+}
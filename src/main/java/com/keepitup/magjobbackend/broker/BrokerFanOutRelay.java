@@ -0,0 +1,118 @@
+package com.keepitup.magjobbackend.broker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Lets the in-memory broker of every node deliver messages published on any node. Registered as an
+ * interceptor of the broker channel, it forwards each message sent to a {@code /topic} destination
+ * to the {@link BrokerFanOutBus}; messages arriving from other nodes are sent into the local broker
+ * channel and marked so they are not forwarded again.
+ */
+@Component
+@ConditionalOnProperty(name = "keepitup.magjob.websocket.broker.mode", havingValue = "fan-out")
+@Log
+public class BrokerFanOutRelay implements ChannelInterceptor {
+    static final String ORIGIN_HEADER = "fanOutOrigin";
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final BrokerFanOutBus bus;
+    private final ObjectProvider<MessageChannel> brokerChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter published;
+    private final Counter received;
+    private final Counter failed;
+
+    @Autowired
+    public BrokerFanOutRelay(
+            BrokerFanOutBus bus,
+            @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannel,
+            MeterRegistry meterRegistry
+    ) {
+        this.bus = bus;
+        this.brokerChannel = brokerChannel;
+        this.published = counter(meterRegistry, "published");
+        this.received = counter(meterRegistry, "received");
+        this.failed = counter(meterRegistry, "failed");
+        bus.subscribe(this::deliver);
+
+        if (bus instanceof InMemoryBrokerFanOutBus) {
+            log.warning("Broker fan-out uses the in-memory bus, which only reaches this JVM; "
+                    + "set keepitup.magjob.websocket.broker.fan-out-bus=postgres to reach other nodes");
+        }
+    }
+
+    @Override
+    public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+        if (!sent || !isForwarded(message)) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+
+        try {
+            bus.publish(new BrokerFanOutMessage(
+                    nodeId,
+                    accessor.getDestination(),
+                    contentType != null ? contentType.toString() : null,
+                    (byte[]) message.getPayload()
+            ));
+            published.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.log(Level.WARNING, "Could not fan out message to " + accessor.getDestination(), e);
+        }
+    }
+
+    void deliver(BrokerFanOutMessage message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(message.getDestination());
+        if (message.getContentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(message.getContentType()));
+        }
+        accessor.setHeader(ORIGIN_HEADER, message.getOriginNodeId());
+
+        brokerChannel.getObject().send(MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+        received.increment();
+    }
+
+    private boolean isForwarded(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+
+        return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && destination != null
+                && destination.startsWith(TOPIC_PREFIX)
+                && !message.getHeaders().containsKey(ORIGIN_HEADER)
+                && message.getPayload() instanceof byte[];
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("magjob.websocket.broker.fan-out")
+                .description("Broker messages exchanged with other nodes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
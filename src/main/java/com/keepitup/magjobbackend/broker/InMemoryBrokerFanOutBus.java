@@ -0,0 +1,39 @@
+package com.keepitup.magjobbackend.broker;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Embedded stand-in for a shared channel, meant for tests and local development. Messages are
+ * delivered synchronously to listeners of every application context in the same JVM, so several
+ * contexts started side by side behave like separate nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "keepitup.magjob.websocket.broker.fan-out-bus", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryBrokerFanOutBus implements BrokerFanOutBus {
+    private static final List<Consumer<BrokerFanOutMessage>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<BrokerFanOutMessage>> ownListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(BrokerFanOutMessage message) {
+        LISTENERS.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<BrokerFanOutMessage> listener) {
+        ownListeners.add(listener);
+        LISTENERS.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        LISTENERS.removeAll(ownListeners);
+        ownListeners.clear();
+    }
+}
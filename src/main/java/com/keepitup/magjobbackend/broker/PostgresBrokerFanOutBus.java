@@ -0,0 +1,221 @@
+package com.keepitup.magjobbackend.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Shared channel built on PostgreSQL {@code LISTEN}/{@code NOTIFY}, so nodes need nothing beyond the
+ * database they already share. See {@link PostgresNotificationChannel} for the delivery guarantees.
+ * <p>
+ * A message is sent as one or more frames of at most {@link #MAX_NOTIFICATION_BYTES} bytes, each
+ * prefixed with the message id, its index and the frame count, all in one transaction. Receivers
+ * reassemble the frames and drop a message whose frames did not all arrive within the assembly timeout.
+ */
+@Component
+@ConditionalOnProperty(name = "keepitup.magjob.websocket.broker.fan-out-bus", havingValue = "postgres")
+@Log
+public class PostgresBrokerFanOutBus implements BrokerFanOutBus {
+    static final int MAX_NOTIFICATION_BYTES = PostgresNotificationChannel.MAX_NOTIFICATION_BYTES;
+
+    // Room for "<uuid> <index> <count> "
+    private static final int FRAME_HEADER_BYTES = 64;
+
+    private final PostgresNotificationChannel channel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Consumer<BrokerFanOutMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Assembly> assemblies = new LinkedHashMap<>();
+    private final Duration assemblyTimeout;
+
+    @Autowired
+    public PostgresBrokerFanOutBus(
+            DataSource dataSource,
+            @Value("${keepitup.magjob.websocket.broker.postgres.channel:magjob_broker}") String channel,
+            @Value("${keepitup.magjob.websocket.broker.postgres.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${keepitup.magjob.websocket.broker.postgres.reconnect-delay:PT5S}") Duration reconnectDelay,
+            @Value("${keepitup.magjob.websocket.broker.postgres.assembly-timeout:PT30S}") Duration assemblyTimeout
+    ) {
+        this.channel = new PostgresNotificationChannel(dataSource, channel, pollTimeout, reconnectDelay);
+        this.assemblyTimeout = assemblyTimeout;
+    }
+
+    @Override
+    public void publish(BrokerFanOutMessage message) {
+        channel.sendAll(frames(message));
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<BrokerFanOutMessage> listener) {
+        if (listeners.isEmpty()) {
+            channel.subscribe(this::receive);
+        }
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        channel.close();
+    }
+
+    List<String> frames(BrokerFanOutMessage message) {
+        String id = UUID.randomUUID().toString();
+        List<String> parts = split(encode(message), MAX_NOTIFICATION_BYTES - FRAME_HEADER_BYTES);
+        List<String> frames = new ArrayList<>(parts.size());
+
+        for (int index = 0; index < parts.size(); index++) {
+            frames.add(String.join(" ", id, Integer.toString(index), Integer.toString(parts.size()), parts.get(index)));
+        }
+
+        return frames;
+    }
+
+    /**
+     * Splits on code point boundaries, so that every part is valid text of at most {@code maxBytes}
+     * UTF-8 bytes.
+     */
+    private static List<String> split(String text, int maxBytes) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int bytes = 0;
+
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+            if (bytes + length > maxBytes) {
+                parts.add(text.substring(start, i));
+                start = i;
+                bytes = 0;
+            }
+            bytes += length;
+            i += Character.charCount(codePoint);
+        }
+        parts.add(text.substring(start));
+
+        return parts;
+    }
+
+    /**
+     * Called from the single listener thread of the channel.
+     */
+    synchronized void receive(String frame) {
+        String[] header = frame.split(" ", 4);
+        String notification;
+
+        try {
+            notification = assemble(header[0], Integer.parseInt(header[1]), Integer.parseInt(header[2]), header[3]);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Skipping malformed broker fan-out frame", e);
+            return;
+        }
+
+        if (notification != null) {
+            dispatch(notification);
+        }
+    }
+
+    private String assemble(String id, int index, int count, String part) {
+        if (count == 1) {
+            return part;
+        }
+
+        long now = System.nanoTime();
+        evictExpiredAssemblies(now);
+
+        Assembly assembly = assemblies.computeIfAbsent(id, ignored -> new Assembly(new String[count], now));
+        if (assembly.parts[index] == null) {
+            assembly.parts[index] = part;
+            assembly.received++;
+        }
+        if (assembly.received < count) {
+            return null;
+        }
+
+        assemblies.remove(id);
+        return String.join("", assembly.parts);
+    }
+
+    private void evictExpiredAssemblies(long now) {
+        Iterator<Assembly> iterator = assemblies.values().iterator();
+
+        while (iterator.hasNext()) {
+            Assembly assembly = iterator.next();
+            if (now - assembly.startedAt < assemblyTimeout.toNanos()) {
+                return;
+            }
+            iterator.remove();
+            log.warning("Dropping broker fan-out message with " + assembly.received + " of "
+                    + assembly.parts.length + " frames received");
+        }
+    }
+
+    private void dispatch(String notification) {
+        BrokerFanOutMessage message;
+        try {
+            message = decode(notification);
+        } catch (JsonProcessingException e) {
+            log.log(Level.WARNING, "Skipping malformed broker fan-out notification", e);
+            return;
+        }
+
+        for (Consumer<BrokerFanOutMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Broker fan-out listener failed", e);
+            }
+        }
+    }
+
+    String encode(BrokerFanOutMessage message) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("origin", message.getOriginNodeId());
+        fields.put("destination", message.getDestination());
+        fields.put("contentType", message.getContentType());
+        fields.put("payload", new String(message.getPayload(), StandardCharsets.UTF_8));
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    BrokerFanOutMessage decode(String notification) throws JsonProcessingException {
+        Map<?, ?> fields = objectMapper.readValue(notification, Map.class);
+        return new BrokerFanOutMessage(
+                (String) fields.get("origin"),
+                (String) fields.get("destination"),
+                (String) fields.get("contentType"),
+                ((String) fields.get("payload")).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static class Assembly {
+        private final String[] parts;
+        private final long startedAt;
+        private int received;
+
+        private Assembly(String[] parts, long startedAt) {
+            this.parts = parts;
+            this.startedAt = startedAt;
+        }
+    }
+}
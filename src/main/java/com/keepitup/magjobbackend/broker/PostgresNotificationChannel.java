@@ -0,0 +1,148 @@
+package com.keepitup.magjobbackend.broker;
+
+import lombok.extern.java.Log;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * A single PostgreSQL {@code LISTEN}/{@code NOTIFY} channel shared by every node. Notifications are sent
+ * through the connection pool; a daemon thread keeps one dedicated connection listening and reconnects
+ * after failures. Notifications sent while a node is reconnecting are not redelivered to it, and the
+ * sending node receives its own notifications as well.
+ * <p>
+ * PostgreSQL limits a notification to 8000 bytes, larger ones are rejected. The driver is a runtime
+ * dependency only, so its notification API is reached reflectively.
+ */
+@Log
+public class PostgresNotificationChannel {
+    public static final int MAX_NOTIFICATION_BYTES = 7999;
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final Class<?> pgConnectionClass;
+    private final Method getNotifications;
+    private final Method getParameter;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresNotificationChannel(DataSource dataSource, String channel, Duration pollTimeout, Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.channel = channel;
+        this.pollTimeoutMillis = Math.toIntExact(pollTimeout.toMillis());
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        try {
+            this.pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+            this.getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+            this.getParameter = Class.forName("org.postgresql.PGNotification").getMethod("getParameter");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("PostgreSQL driver is not available", e);
+        }
+    }
+
+    public void send(String notification) {
+        sendAll(List.of(notification));
+    }
+
+    /**
+     * Sends the notifications in one transaction, so listeners receive either all of them, in order,
+     * or none.
+     */
+    public void sendAll(List<String> notifications) {
+        for (String notification : notifications) {
+            if (notification.getBytes(StandardCharsets.UTF_8).length > MAX_NOTIFICATION_BYTES) {
+                throw new IllegalArgumentException("Notification exceeds the size limit of channel " + channel);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> notifications.forEach(notification ->
+                jdbcTemplate.query("select pg_notify(?, ?)", resultSet -> null, channel, notification)));
+    }
+
+    public synchronized void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+        if (listenerThread == null) {
+            running = true;
+            listenerThread = new Thread(this::listen, channel + "-listener");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    public synchronized void close() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                Object pgConnection = connection.unwrap(pgConnectionClass);
+
+                while (running) {
+                    Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (Object notification : notifications) {
+                            dispatch((String) getParameter.invoke(notification));
+                        }
+                    }
+                }
+            } catch (SQLException | ReflectiveOperationException e) {
+                reconnectAfter(e);
+            }
+        }
+    }
+
+    private void reconnectAfter(Throwable e) {
+        if (!running) {
+            return;
+        }
+        log.log(Level.WARNING, "Listener of channel " + channel + " lost its connection, reconnecting", e);
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException interrupted) {
+            running = false;
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(String notification) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(notification);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Listener of channel " + channel + " failed", e);
+            }
+        }
+    }
+}
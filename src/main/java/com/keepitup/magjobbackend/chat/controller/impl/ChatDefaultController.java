@@ -22,7 +22,6 @@ import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ResponseStatusException;
@@ -74,8 +73,8 @@ public class ChatDefaultController implements ChatController {
         }
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = chatService.findAll().size();
-        return chatsToResponseFunction.apply(chatService.findAll(pageRequest), count);
+        Page<Chat> chats = chatService.findAll(pageRequest);
+        return chatsToResponseFunction.apply(chats);
     }
 
     @Override
@@ -83,12 +82,7 @@ public class ChatDefaultController implements ChatController {
         Chat chat = chatService.find(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Member member = securityService.getCurrentMember(chat.getOrganization());
-
-        boolean isChatMember = chat.getChatMembers().stream()
-                .anyMatch(chatMember -> chatMember.getMember().equals(member));
-
-        if (!isChatMember) {
+        if (!securityService.belongsToChat(chat, chat.getOrganization())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
@@ -108,9 +102,9 @@ public class ChatDefaultController implements ChatController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = chatService.findAllByOrganization(organization, Pageable.unpaged()).getNumberOfElements();
+        Page<Chat> chats = chatService.findAllByOrganization(organization, pageRequest);
 
-        return chatsToResponseFunction.apply(chatService.findAllByOrganization(organization, pageRequest), count);
+        return chatsToResponseFunction.apply(chats);
     }
 
     @Override
@@ -124,15 +118,11 @@ public class ChatDefaultController implements ChatController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Optional<Page<Chat>> countOptional = chatMemberService.findAllChatsByMember(memberId, Pageable.unpaged());
-        Integer count = countOptional
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)).getNumberOfElements();
-
         Optional<Page<Chat>> chatsOptional = chatMemberService.findAllChatsByMember(memberId, pageRequest);
 
         Page<Chat> chats = chatsOptional.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        return chatsToResponseFunction.apply(chats, count);
+        return chatsToResponseFunction.apply(chats);
     }
 
     @Override
@@ -148,25 +138,20 @@ public class ChatDefaultController implements ChatController {
 
         Member member = securityService.getCurrentMember(organization);
 
-        chatService.create(requestToChatFunction.apply(postChatRequest));
-        Optional<Chat> createdChat = chatService.findByTitle(postChatRequest.getTitle());
+        Chat chat = requestToChatFunction.apply(postChatRequest);
+        chat.setOrganization(organization);
 
-        if (createdChat.isPresent()) {
-            chatMemberService.acceptInvitation(ChatMember.builder()
-                    .chat(createdChat.get())
-                    .nickname(member.getPseudonym())
-                    .member(member)
-                    .build());
+        Chat createdChat = chatService.create(chat);
 
-            ChatMember adminChatMember = chatMemberService.findByMemberAndChat(member, createdChat.get())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        ChatMember adminChatMember = chatMemberService.acceptInvitation(ChatMember.builder()
+                .chat(createdChat)
+                .nickname(member.getPseudonym())
+                .member(member)
+                .build());
 
-            chatService.addAdmin(createdChat.get(), adminChatMember);
-        }
+        chatService.addAdmin(createdChat, adminChatMember);
 
-        return chatService.findByTitle(postChatRequest.getTitle())
-                .map(chatToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return chatToResponseFunction.apply(createdChat);
     }
 
     @Override
@@ -179,11 +164,7 @@ public class ChatDefaultController implements ChatController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        chatService.update(updateChatWithRequestFunction.apply(chat, patchChatRequest));
-
-        return chatService.find(id)
-                .map(chatToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return chatToResponseFunction.apply(chatService.update(updateChatWithRequestFunction.apply(chat, patchChatRequest)));
     }
 
     @Override
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.chat.entity.Chat;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class ChatsToResponseFunction implements BiFunction<Page<Chat>, Integer, GetChatsResponse> {
+public class ChatsToResponseFunction implements Function<Page<Chat>, GetChatsResponse> {
     @Override
-    public GetChatsResponse apply(Page<Chat> chats, Integer count) {
+    public GetChatsResponse apply(Page<Chat> chats) {
         return GetChatsResponse.builder()
                 .chats(chats.stream()
                         .map(chat -> GetChatsResponse.Chat.builder()
@@ -19,7 +19,7 @@ public class ChatsToResponseFunction implements BiFunction<Page<Chat>, Integer,
                                 .organizationId(chat.getOrganization().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(chats.getTotalElements()))
                 .build();
     }
 }
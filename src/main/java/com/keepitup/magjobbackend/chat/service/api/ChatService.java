@@ -25,9 +25,9 @@ public interface ChatService {
 
     void removeAdmin(Chat chat, ChatMember chatMember);
 
-    void create(Chat chat);
+    Chat create(Chat chat);
 
     void delete(BigInteger id);
 
-    void update(Chat chat);
+    Chat update(Chat chat);
 }
@@ -76,9 +76,9 @@ public class ChatDefaultService implements ChatService {
 
 
     @Override
-    public void create(Chat chat) {
+    public Chat create(Chat chat) {
         chat.setDateOfCreation(LocalDate.now());
-        chatRepository.save(chat);
+        return chatRepository.save(chat);
     }
 
     @Override
@@ -87,7 +87,7 @@ public class ChatDefaultService implements ChatService {
     }
 
     @Override
-    public void update(Chat chat) {
-        chatRepository.save(chat);
+    public Chat update(Chat chat) {
+        return chatRepository.save(chat);
     }
 }
@@ -0,0 +1,73 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Short-lived chat membership decisions scoped to a single WebSocket session, so that consecutive
+ * STOMP frames sent to the same chat do not repeat the membership lookup. Entries are dropped
+ * when the session disconnects and, through the {@link ChatMembershipInvalidationBus} on every node,
+ * when membership of the chat changes.
+ */
+@Component
+public class ChatMembershipCache {
+    private final ChatMembershipInvalidationBus invalidationBus;
+    private final long timeToLiveNanos;
+    private final Map<String, Map<BigInteger, Entry>> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatMembershipCache(
+            ChatMembershipInvalidationBus invalidationBus,
+            @Value("${keepitup.magjob.chat-membership-cache.time-to-live:PT30S}") Duration timeToLive
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    public boolean isMember(String sessionId, BigInteger chatId, BooleanSupplier resolver) {
+        if (sessionId == null) {
+            return resolver.getAsBoolean();
+        }
+
+        Map<BigInteger, Entry> chats = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+        Entry entry = chats.get(chatId);
+
+        if (entry != null && entry.getExpiresAt() - now > 0) {
+            return entry.isMember();
+        }
+
+        boolean member = resolver.getAsBoolean();
+        chats.put(chatId, new Entry(member, now + timeToLiveNanos));
+        return member;
+    }
+
+    public void invalidateChat(BigInteger chatId) {
+        invalidationBus.publish(chatId);
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private void onInvalidation(BigInteger chatId) {
+        sessions.values().forEach(chats -> chats.remove(chatId));
+    }
+
+    @lombok.Value
+    private static class Entry {
+        boolean member;
+        long expiresAt;
+    }
+}
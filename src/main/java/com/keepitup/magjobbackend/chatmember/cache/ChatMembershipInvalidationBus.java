@@ -0,0 +1,14 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+/**
+ * Propagates invalidated chat ids of the {@link ChatMembershipCache} to every node. Implementations
+ * must also deliver published ids to listeners registered on the publishing node.
+ */
+public interface ChatMembershipInvalidationBus {
+    void publish(BigInteger chatId);
+
+    void subscribe(Consumer<BigInteger> listener);
+}
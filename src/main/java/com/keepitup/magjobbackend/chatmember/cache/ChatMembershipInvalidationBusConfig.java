@@ -0,0 +1,35 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import com.keepitup.magjobbackend.broker.PostgresNotificationChannel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class ChatMembershipInvalidationBusConfig {
+
+    /**
+     * @param mode {@code in-process} for a single node, {@code postgres} to invalidate every node sharing
+     *             the database; follows the role cache invalidation bus unless set explicitly
+     */
+    @Bean
+    public ChatMembershipInvalidationBus chatMembershipInvalidationBus(
+            @Value("${keepitup.magjob.chat-membership-cache.invalidation-bus:${keepitup.magjob.role-cache.invalidation-bus:in-process}}") String mode,
+            @Value("${keepitup.magjob.chat-membership-cache.postgres.channel:magjob_chat_membership}") String channel,
+            @Value("${keepitup.magjob.chat-membership-cache.postgres.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${keepitup.magjob.chat-membership-cache.postgres.reconnect-delay:PT5S}") Duration reconnectDelay,
+            ObjectProvider<DataSource> dataSource
+    ) {
+        return switch (mode) {
+            case "in-process" -> new InProcessChatMembershipInvalidationBus();
+            case "postgres" -> new PostgresChatMembershipInvalidationBus(new PostgresNotificationChannel(
+                    dataSource.getObject(), channel, pollTimeout, reconnectDelay));
+            default -> throw new IllegalStateException("Unknown chat membership cache invalidation bus: " + mode
+                    + ", expected in-process or postgres");
+        };
+    }
+}
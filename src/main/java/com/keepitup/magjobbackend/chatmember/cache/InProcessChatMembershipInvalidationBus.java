@@ -0,0 +1,23 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus that delivers invalidations synchronously to local listeners only.
+ */
+public class InProcessChatMembershipInvalidationBus implements ChatMembershipInvalidationBus {
+    private final List<Consumer<BigInteger>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(BigInteger chatId) {
+        listeners.forEach(listener -> listener.accept(chatId));
+    }
+
+    @Override
+    public void subscribe(Consumer<BigInteger> listener) {
+        listeners.add(listener);
+    }
+}
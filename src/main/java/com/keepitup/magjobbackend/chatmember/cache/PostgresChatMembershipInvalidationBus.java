@@ -0,0 +1,61 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import com.keepitup.magjobbackend.broker.PostgresNotificationChannel;
+import lombok.extern.java.Log;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Cluster-wide bus that sends invalidated chat ids to every node over a PostgreSQL notification
+ * channel, as {@code <origin node id>:<chat id>}. Local listeners are invoked synchronously on publish
+ * and the copy that comes back to the publishing node is skipped.
+ */
+@Log
+public class PostgresChatMembershipInvalidationBus implements ChatMembershipInvalidationBus {
+    private static final char SEPARATOR = ':';
+
+    private final PostgresNotificationChannel channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<BigInteger>> listeners = new CopyOnWriteArrayList<>();
+
+    public PostgresChatMembershipInvalidationBus(PostgresNotificationChannel channel) {
+        this.channel = channel;
+        channel.subscribe(this::receive);
+    }
+
+    @Override
+    public void publish(BigInteger chatId) {
+        listeners.forEach(listener -> listener.accept(chatId));
+        channel.send(nodeId + SEPARATOR + chatId);
+    }
+
+    @Override
+    public void subscribe(Consumer<BigInteger> listener) {
+        listeners.add(listener);
+    }
+
+    public void close() {
+        channel.close();
+    }
+
+    void receive(String notification) {
+        int separator = notification.lastIndexOf(SEPARATOR);
+        if (separator < 0 || notification.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        BigInteger chatId;
+        try {
+            chatId = new BigInteger(notification.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.log(Level.WARNING, "Skipping malformed chat membership invalidation", e);
+            return;
+        }
+        listeners.forEach(listener -> listener.accept(chatId));
+    }
+}
@@ -2,6 +2,7 @@ package com.keepitup.magjobbackend.chatmember.controller.impl;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
 import com.keepitup.magjobbackend.chat.service.api.ChatService;
+import com.keepitup.magjobbackend.chatmember.cache.ChatMembershipCache;
 import com.keepitup.magjobbackend.chatmember.controller.api.ChatMemberController;
 import com.keepitup.magjobbackend.chatmember.dto.*;
 import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
@@ -16,8 +17,8 @@ import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.member.service.api.MemberService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
@@ -33,6 +34,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
     private final SecurityService securityService;
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMembershipCache chatMembershipCache;
 
     private final ChatMemberToResponseFunction chatMemberToResponseFunction;
     private final ChatMembersToResponseFunction chatMembersToResponseFunction;
@@ -46,6 +48,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
             SecurityService securityService,
             ChatService chatService,
             SimpMessagingTemplate messagingTemplate,
+            ChatMembershipCache chatMembershipCache,
             ChatMemberToResponseFunction chatMemberToResponseFunction,
             ChatMembersToResponseFunction chatMembersToResponseFunction,
             RequestToChatMemberFunction requestToChatMemberFunction,
@@ -56,6 +59,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
         this.securityService = securityService;
         this.chatService = chatService;
         this.messagingTemplate = messagingTemplate;
+        this.chatMembershipCache = chatMembershipCache;
         this.chatMemberToResponseFunction = chatMemberToResponseFunction;
         this.chatMembersToResponseFunction = chatMembersToResponseFunction;
         this.requestToChatMemberFunction = requestToChatMemberFunction;
@@ -76,9 +80,9 @@ public class ChatMemberDefaultController implements ChatMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = chatMemberService.findAllByMember(member, Pageable.unpaged()).getNumberOfElements();
+        Page<ChatMember> chatMembers = chatMemberService.findAllByMember(member, pageRequest);
 
-        return chatMembersToResponseFunction.apply(chatMemberService.findAllByMember(member, pageRequest), count);
+        return chatMembersToResponseFunction.apply(chatMembers);
     }
 
     @Override
@@ -92,9 +96,9 @@ public class ChatMemberDefaultController implements ChatMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = chatMemberService.findAllAcceptedMembers(chat, Pageable.unpaged()).getNumberOfElements();
+        Page<ChatMember> chatMembers = chatMemberService.findAllAcceptedMembers(chat, pageRequest);
 
-        return chatMembersToResponseFunction.apply(chatMemberService.findAllAcceptedMembers(chat, pageRequest), count);
+        return chatMembersToResponseFunction.apply(chatMembers);
     }
 
     @Override
@@ -117,11 +121,11 @@ public class ChatMemberDefaultController implements ChatMemberController {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
         }
 
-        chatMemberService.create(requestToChatMemberFunction.apply(postChatMemberRequest));
+        ChatMember chatMember = requestToChatMemberFunction.apply(postChatMemberRequest);
+        chatMember.setMember(member);
+        chatMember.setChat(chat);
 
-        return chatMemberService.findByMemberAndChat(member, chat)
-                .map(chatMemberToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return chatMemberToResponseFunction.apply(chatMemberService.create(chatMember));
     }
 
     @Override
@@ -133,11 +137,9 @@ public class ChatMemberDefaultController implements ChatMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        chatMemberService.update(updateChatMemberWithRequestFunction.apply(chatMember, patchChatMemberRequest));
-        ChatMember chatMemberAfterUpdate = chatMemberService.find(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-
-        return chatMemberToResponseFunction.apply(chatMemberAfterUpdate);
+        return chatMemberToResponseFunction.apply(
+                chatMemberService.update(updateChatMemberWithRequestFunction.apply(chatMember, patchChatMemberRequest))
+        );
     }
 
     @Override
@@ -161,6 +163,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
         );
 
         chatMemberService.acceptInvitation(invitation);
+        chatMembershipCache.invalidateChat(chat.getId());
     }
 
     @Override
@@ -184,6 +187,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
         );
 
         chatMemberService.delete(invitation.getId());
+        chatMembershipCache.invalidateChat(chat.getId());
     }
 
     @Override
@@ -205,6 +209,7 @@ public class ChatMemberDefaultController implements ChatMemberController {
         );
 
         chatService.removeAdmin(chatMember.getChat(), chatMember);
+        chatMembershipCache.invalidateChat(chatMember.getChat().getId());
     }
 
     @Override
@@ -226,5 +231,6 @@ public class ChatMemberDefaultController implements ChatMemberController {
         );
 
         chatService.addAdmin(chatMember.getChat(), chatMember);
+        chatMembershipCache.invalidateChat(chatMember.getChat().getId());
     }
 }
@@ -17,7 +17,9 @@ import java.util.List;
 @ToString
 @EqualsAndHashCode
 @Entity
-@Table(name = "chat_members")
+@Table(name = "chat_members", indexes = {
+        @Index(name = "idx_chat_members_chat_member", columnList = "chat_id, member_id")
+})
 public class ChatMember {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chatMemberSequenceGenerator")
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class ChatMembersToResponseFunction implements BiFunction<Page<ChatMember>, Integer, GetChatMembersResponse> {
+public class ChatMembersToResponseFunction implements Function<Page<ChatMember>, GetChatMembersResponse> {
     @Override
-    public GetChatMembersResponse apply(Page<ChatMember> chatMembers, Integer count) {
+    public GetChatMembersResponse apply(Page<ChatMember> chatMembers) {
         return GetChatMembersResponse.builder()
                 .chatMembers(chatMembers.stream()
                         .map(chatMember -> GetChatMembersResponse.ChatMember.builder()
@@ -19,7 +19,7 @@ public class ChatMembersToResponseFunction implements BiFunction<Page<ChatMember
                                 .memberId(chatMember.getMember().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(chatMembers.getTotalElements()))
                 .build();
     }
 }
@@ -17,4 +17,8 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, BigInteg
 
     Optional<ChatMember> findByMemberAndChat(Member member, Chat chat);
     Page<ChatMember> findAllByChatAndIsInvitationAccepted(Chat chat, Boolean isInvitationAccepted, Pageable pageable);
+
+    boolean existsByMemberAndChat(Member member, Chat chat);
+
+    boolean existsByMemberAndChatAndIsInvitationAccepted(Member member, Chat chat, Boolean isInvitationAccepted);
 }
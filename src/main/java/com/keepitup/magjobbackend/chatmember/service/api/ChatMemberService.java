@@ -22,11 +22,15 @@ public interface ChatMemberService {
 
     Optional<ChatMember> findByMemberAndChat(Member member, Chat chat);
 
-    void create(ChatMember chatMember);
+    boolean existsByMemberAndChat(Member member, Chat chat);
 
-    void acceptInvitation(ChatMember chatMember);
+    boolean isAcceptedMember(Member member, Chat chat);
+
+    ChatMember create(ChatMember chatMember);
+
+    ChatMember acceptInvitation(ChatMember chatMember);
 
     void delete(BigInteger id);
 
-    void update(ChatMember chatMember);
+    ChatMember update(ChatMember chatMember);
 }
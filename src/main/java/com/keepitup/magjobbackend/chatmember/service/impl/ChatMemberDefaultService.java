@@ -61,15 +61,25 @@ public class ChatMemberDefaultService implements ChatMemberService {
     }
 
     @Override
-    public void create(ChatMember chatMember) {
+    public boolean existsByMemberAndChat(Member member, Chat chat) {
+        return chatMemberRepository.existsByMemberAndChat(member, chat);
+    }
+
+    @Override
+    public boolean isAcceptedMember(Member member, Chat chat) {
+        return chatMemberRepository.existsByMemberAndChatAndIsInvitationAccepted(member, chat, true);
+    }
+
+    @Override
+    public ChatMember create(ChatMember chatMember) {
         chatMember.setIsInvitationAccepted(false);
-        chatMemberRepository.save(chatMember);
+        return chatMemberRepository.save(chatMember);
     }
 
     @Override
-    public void acceptInvitation(ChatMember chatMember) {
+    public ChatMember acceptInvitation(ChatMember chatMember) {
         chatMember.setIsInvitationAccepted(true);
-        chatMemberRepository.save(chatMember);
+        return chatMemberRepository.save(chatMember);
     }
 
     @Override
@@ -78,7 +88,7 @@ public class ChatMemberDefaultService implements ChatMemberService {
     }
 
     @Override
-    public void update(ChatMember chatMember) {
-        chatMemberRepository.save(chatMember);
+    public ChatMember update(ChatMember chatMember) {
+        return chatMemberRepository.save(chatMember);
     }
 }
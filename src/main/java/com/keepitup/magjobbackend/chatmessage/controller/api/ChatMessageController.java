@@ -1,19 +1,25 @@
 package com.keepitup.magjobbackend.chatmessage.controller.api;
 
+import com.keepitup.magjobbackend.chatmessage.dto.ChatMessageEvent;
 import com.keepitup.magjobbackend.chatmessage.dto.GetChatMessagesResponse;
-import com.keepitup.magjobbackend.chatmessage.dto.PatchChatMessageRequest;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatReadWatermarkResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatReadWatermarksResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatUnreadCountsResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.PatchChatReadWatermarkRequest;
 import com.keepitup.magjobbackend.chatmessage.dto.PatchChatMessageWebSocketRequest;
 import com.keepitup.magjobbackend.chatmessage.dto.PostChatMessageRequest;
-import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
 import com.keepitup.magjobbackend.configuration.PageConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigInteger;
@@ -48,9 +54,35 @@ public interface ChatMessageController {
             BigInteger chatId
     );
 
+    @Operation(summary = "Get Chat Messages By Chat using cursor pagination, newest first")
+    @GetMapping("api/chats/{id}/chat-messages/history")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetChatMessagesResponse getChatMessageHistoryByChat(
+            @Parameter(
+                    name = "cursor",
+                    description = "Cursor returned as nextCursor by the previous call, omit for the newest messages"
+            )
+            @RequestParam(required = false)
+            String cursor,
+            @Parameter(
+                    name = "limit",
+                    description = "Number of messages to retrieve"
+            )
+            @RequestParam(defaultValue = "#{pageConfig.size}")
+            int limit,
+            @Parameter(
+                    name = "chatId",
+                    description = "Chat id value",
+                    required = true
+            )
+            @PathVariable("id")
+            BigInteger chatId
+    );
+
     @MessageMapping("/chat/{chatId}/sendMessage")
     @SendTo("/topic/chat/{chatId}")
-    ChatMessage sendMessage(
+    ChatMessageEvent sendMessage(
             @Parameter(
                     name = "chatId",
                     description = "Chat id value",
@@ -65,7 +97,10 @@ public interface ChatMessageController {
                     required = true
             )
             @RequestBody
-            PostChatMessageRequest postChatMessageRequest
+            PostChatMessageRequest postChatMessageRequest,
+            @Parameter(hidden = true)
+            @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false)
+            String sessionId
     );
 
     @MessageMapping("/chat/{chatId}/messageViewed")
@@ -82,20 +117,100 @@ public interface ChatMessageController {
                     schema = @Schema(implementation = PatchChatMessageWebSocketRequest.class),
                     required = true
             )
-            @RequestBody PatchChatMessageWebSocketRequest patchChatMessageWebSocketRequest
+            @RequestBody PatchChatMessageWebSocketRequest patchChatMessageWebSocketRequest,
+            @Parameter(hidden = true)
+            @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false)
+            String sessionId
     );
 
+    @Operation(summary = "Get Chat Message attachment")
+    @GetMapping(value = "/api/messages/{id}/attachment", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    byte[] getChatMessageAttachment(
+            @Parameter(
+                    name = "id",
+                    description = "ChatMessage id value",
+                    required = true
+            )
+            @PathVariable("id")
+            BigInteger id
+    );
+
+    @Operation(summary = "Mark Chat Message and every older message of its chat as read")
     @PatchMapping("/api/messages/{id}")
     @ResponseStatus(HttpStatus.OK)
     void markMessageAsViewed(
+            @Parameter(
+                    name = "id",
+                    description = "ChatMessage id value",
+                    required = true
+            )
+            @PathVariable("id")
+            BigInteger id
+    );
+
+    @Operation(summary = "Get read watermark of the current Chat Member")
+    @GetMapping("api/chats/{id}/read-watermark")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetChatReadWatermarkResponse getReadWatermark(
             @Parameter(
                     name = "chatId",
                     description = "Chat id value",
                     required = true
             )
             @PathVariable("id")
-            BigInteger id,
+            BigInteger chatId
+    );
+
+    @Operation(summary = "Advance read watermark of the current Chat Member")
+    @PatchMapping("api/chats/{id}/read-watermark")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetChatReadWatermarkResponse updateReadWatermark(
+            @Parameter(
+                    name = "chatId",
+                    description = "Chat id value",
+                    required = true
+            )
+            @PathVariable("id")
+            BigInteger chatId,
+            @Parameter(
+                    name = "PatchChatReadWatermarkRequest",
+                    description = "PatchChatReadWatermarkRequest DTO",
+                    schema = @Schema(implementation = PatchChatReadWatermarkRequest.class),
+                    required = true
+            )
             @RequestBody
-            PatchChatMessageRequest patchChatMemberRequest
+            PatchChatReadWatermarkRequest patchChatReadWatermarkRequest
+    );
+
+    @Operation(summary = "Get read watermarks of all Chat Members")
+    @GetMapping("api/chats/{id}/read-watermarks")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetChatReadWatermarksResponse getReadWatermarksByChat(
+            @Parameter(
+                    name = "chatId",
+                    description = "Chat id value",
+                    required = true
+            )
+            @PathVariable("id")
+            BigInteger chatId
+    );
+
+    @Operation(summary = "Get unread message counts of all Chats of the Member")
+    @GetMapping("api/members/{memberId}/chats/unread-counts")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetChatUnreadCountsResponse getUnreadCountsByMember(
+            @Parameter(
+                    name = "memberId",
+                    description = "Member id value",
+                    required = true
+            )
+            @PathVariable("memberId")
+            BigInteger memberId
     );
 }
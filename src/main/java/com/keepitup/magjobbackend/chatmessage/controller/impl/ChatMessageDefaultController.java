@@ -2,22 +2,33 @@ package com.keepitup.magjobbackend.chatmessage.controller.impl;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
 import com.keepitup.magjobbackend.chat.service.impl.ChatDefaultService;
+import com.keepitup.magjobbackend.chatmember.cache.ChatMembershipCache;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import com.keepitup.magjobbackend.chatmember.service.impl.ChatMemberDefaultService;
 import com.keepitup.magjobbackend.chatmessage.controller.api.ChatMessageController;
+import com.keepitup.magjobbackend.chatmessage.dto.ChatMessageEvent;
 import com.keepitup.magjobbackend.chatmessage.dto.GetChatMessagesResponse;
-import com.keepitup.magjobbackend.chatmessage.dto.PatchChatMessageRequest;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatReadWatermarkResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatReadWatermarksResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatUnreadCountsResponse;
+import com.keepitup.magjobbackend.chatmessage.dto.PatchChatReadWatermarkRequest;
 import com.keepitup.magjobbackend.chatmessage.dto.PatchChatMessageWebSocketRequest;
 import com.keepitup.magjobbackend.chatmessage.dto.PostChatMessageRequest;
 import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.chatmessage.function.ChatMessageHistoryToResponseFunction;
+import com.keepitup.magjobbackend.chatmessage.function.ChatMessageToEventFunction;
 import com.keepitup.magjobbackend.chatmessage.function.ChatMessagesToResponseFunction;
 import com.keepitup.magjobbackend.chatmessage.function.RequestToChatMessageFunction;
-import com.keepitup.magjobbackend.chatmessage.function.UpdateChatMessageWithRequestFunction;
 import com.keepitup.magjobbackend.chatmessage.service.impl.ChatMessageDefaultService;
+import com.keepitup.magjobbackend.configuration.Constants;
 import com.keepitup.magjobbackend.configuration.SecurityService;
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.member.service.api.MemberService;
+import com.keepitup.magjobbackend.util.CursorUtil;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -32,33 +43,42 @@ public class ChatMessageDefaultController implements ChatMessageController {
     private final ChatMessageDefaultService chatMessageService;
     private final ChatDefaultService chatService;
     private final ChatMemberDefaultService chatMemberService;
+    private final MemberService memberService;
     private final SecurityService securityService;
+    private final ChatMembershipCache chatMembershipCache;
     private final RequestToChatMessageFunction requestToChatMessageFunction;
-    private final UpdateChatMessageWithRequestFunction updateChatMessageWithRequestFunction;
     private final ChatMessagesToResponseFunction chatMessagesToResponseFunction;
+    private final ChatMessageHistoryToResponseFunction chatMessageHistoryToResponseFunction;
+    private final ChatMessageToEventFunction chatMessageToEventFunction;
 
     @Autowired
     public ChatMessageDefaultController(
             ChatMessageDefaultService chatMessageService,
             ChatDefaultService chatService,
             ChatMemberDefaultService chatMemberService,
+            MemberService memberService,
             SecurityService securityService,
+            ChatMembershipCache chatMembershipCache,
             RequestToChatMessageFunction requestToChatMessageFunction,
-            UpdateChatMessageWithRequestFunction updateChatMessageWithRequestFunction,
-            ChatMessagesToResponseFunction chatMessagesToResponseFunction
+            ChatMessagesToResponseFunction chatMessagesToResponseFunction,
+            ChatMessageHistoryToResponseFunction chatMessageHistoryToResponseFunction,
+            ChatMessageToEventFunction chatMessageToEventFunction
     ) {
        this.chatMessageService = chatMessageService;
        this.chatService = chatService;
        this.chatMemberService = chatMemberService;
+       this.memberService = memberService;
        this.securityService = securityService;
+       this.chatMembershipCache = chatMembershipCache;
        this.requestToChatMessageFunction = requestToChatMessageFunction;
-       this.updateChatMessageWithRequestFunction = updateChatMessageWithRequestFunction;
        this.chatMessagesToResponseFunction = chatMessagesToResponseFunction;
+       this.chatMessageHistoryToResponseFunction = chatMessageHistoryToResponseFunction;
+       this.chatMessageToEventFunction = chatMessageToEventFunction;
     }
 
     @Override
     public GetChatMessagesResponse getChatMessagesByChat(int page, int size, BigInteger chatId) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateOfCreation"));
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateOfCreation", "id"));
         Chat chat = chatService.find(chatId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
@@ -66,70 +86,181 @@ public class ChatMessageDefaultController implements ChatMessageController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = chatMessageService.findAllByChat(chat, Pageable.unpaged()).getNumberOfElements();
+        Page<ChatMessage> chatMessages = chatMessageService.findAllByChat(chat, pageRequest);
 
-        return chatMessagesToResponseFunction.apply(chatMessageService.findAllByChat(chat, pageRequest), count);
+        return chatMessagesToResponseFunction.apply(chatMessages);
     }
 
     @Override
-    public ChatMessage sendMessage(
+    public GetChatMessagesResponse getChatMessageHistoryByChat(String cursor, int limit, BigInteger chatId) {
+        if (limit < 1 || limit > Constants.CURSOR_PAGE_MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+
+        BigInteger beforeId = CursorUtil.decode(cursor);
+        Chat chat = chatService.find(chatId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        if (!securityService.isChatMember(chat)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return chatMessageHistoryToResponseFunction.apply(
+                chatMessageService.findHistoryByChat(chat, beforeId, limit + 1),
+                limit
+        );
+    }
+
+    @Override
+    public ChatMessageEvent sendMessage(
             @DestinationVariable BigInteger chatId,
-            PostChatMessageRequest postChatMessageRequest
+            PostChatMessageRequest postChatMessageRequest,
+            String sessionId
     ) {
         Chat chat = chatService.find(postChatMessageRequest.getChat()).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
-        if (!securityService.isChatMember(chat)) {
+        if (!chatMembershipCache.isMember(sessionId, chat.getId(), () -> securityService.isChatMember(chat))) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        chatMemberService.find(postChatMessageRequest.getChatMember()).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-        );
+        ChatMember chatMember = getCurrentChatMember(chat);
 
-        return chatMessageService.create(requestToChatMessageFunction.apply(postChatMessageRequest));
+        ChatMessage chatMessage = requestToChatMessageFunction.apply(postChatMessageRequest);
+        chatMessage.setChat(chat);
+        chatMessage.setChatMember(chatMember);
+
+        return chatMessageToEventFunction.apply(chatMessageService.create(chatMessage));
     }
 
     @Override
-    public void markMessageAsViewed(
-            BigInteger id,
-            PatchChatMessageRequest patchChatMessageRequest
-    ) {
+    public byte[] getChatMessageAttachment(BigInteger id) {
         ChatMessage chatMessage = chatMessageService.find(id).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
-        Chat chat = chatService.find(id).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-        );
-
-        if (!securityService.isChatMember(chat)) {
+        if (!securityService.isChatMember(chatMessage.getChat())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        chatMessageService.update(updateChatMessageWithRequestFunction.apply(chatMessage, patchChatMessageRequest));
+        if (chatMessage.getAttachment() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+
+        return chatMessage.getAttachment();
+    }
+
+    @Override
+    public void markMessageAsViewed(BigInteger id) {
+        ChatMessage chatMessage = chatMessageService.find(id).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        chatMessageService.advanceReadWatermark(getCurrentChatMember(chatMessage.getChat()), chatMessage.getId());
     }
 
+    @Override
     public void handleViewedMessage(
             BigInteger chatId,
-            PatchChatMessageWebSocketRequest patchChatMessageWebSocketRequest
+            PatchChatMessageWebSocketRequest patchChatMessageWebSocketRequest,
+            String sessionId
     ) {
-        ChatMessage chatMessage = chatMessageService.find(patchChatMessageWebSocketRequest.getChatMessageId()).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-        );
+        if (patchChatMessageWebSocketRequest.getChatMessageId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
 
         Chat chat = chatService.find(chatId).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
+        chatMessageService.advanceReadWatermark(
+                getCurrentChatMember(chat),
+                patchChatMessageWebSocketRequest.getChatMessageId()
+        );
+    }
+
+    @Override
+    public GetChatReadWatermarkResponse getReadWatermark(BigInteger chatId) {
+        Chat chat = chatService.find(chatId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        return toReadWatermarkResponse(getCurrentChatMember(chat));
+    }
+
+    @Override
+    public GetChatReadWatermarkResponse updateReadWatermark(
+            BigInteger chatId,
+            PatchChatReadWatermarkRequest patchChatReadWatermarkRequest
+    ) {
+        if (patchChatReadWatermarkRequest.getLastReadMessageId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+
+        Chat chat = chatService.find(chatId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        ChatMember chatMember = getCurrentChatMember(chat);
+
+        chatMessageService.advanceReadWatermark(chatMember, patchChatReadWatermarkRequest.getLastReadMessageId());
+
+        return toReadWatermarkResponse(chatMember);
+    }
+
+    @Override
+    public GetChatReadWatermarksResponse getReadWatermarksByChat(BigInteger chatId) {
+        Chat chat = chatService.find(chatId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
         if (!securityService.isChatMember(chat)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        PatchChatMessageRequest patchChatMessageRequest = new PatchChatMessageRequest();
-        patchChatMessageRequest.setViewedBy(patchChatMessageWebSocketRequest.getViewedBy());
+        return GetChatReadWatermarksResponse.builder()
+                .chatId(chat.getId())
+                .readWatermarks(chatMessageService.findReadWatermarksByChat(chat).stream()
+                        .map(readWatermark -> GetChatReadWatermarksResponse.ChatReadWatermark.builder()
+                                .chatMemberId(readWatermark.getChatMemberId())
+                                .lastReadMessageId(readWatermark.getLastReadMessageId())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public GetChatUnreadCountsResponse getUnreadCountsByMember(BigInteger memberId) {
+        Member member = memberService.find(memberId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        if (!securityService.getCurrentMember(member.getOrganization()).getId().equals(memberId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return GetChatUnreadCountsResponse.builder()
+                .memberId(memberId)
+                .unreadCounts(chatMessageService.countUnreadByMember(member).entrySet().stream()
+                        .map(unreadCount -> GetChatUnreadCountsResponse.ChatUnreadCount.builder()
+                                .chatId(unreadCount.getKey())
+                                .unreadCount(unreadCount.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private ChatMember getCurrentChatMember(Chat chat) {
+        Member member = securityService.getCurrentMember(chat.getOrganization());
+
+        return chatMemberService.findByMemberAndChat(member, chat)
+                .filter(chatMember -> Boolean.TRUE.equals(chatMember.getIsInvitationAccepted()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN));
+    }
 
-        chatMessageService.update(updateChatMessageWithRequestFunction.apply(chatMessage, patchChatMessageRequest));
+    private GetChatReadWatermarkResponse toReadWatermarkResponse(ChatMember chatMember) {
+        return GetChatReadWatermarkResponse.builder()
+                .chatId(chatMember.getChat().getId())
+                .chatMemberId(chatMember.getId())
+                .lastReadMessageId(chatMessageService.findReadWatermark(chatMember))
+                .unreadCount(chatMessageService.countUnread(chatMember))
+                .build();
     }
 }
@@ -0,0 +1,47 @@
+package com.keepitup.magjobbackend.chatmessage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+/**
+ * Compact form of a new chat message broadcast to chat subscribers. The attachment is referenced by
+ * URL instead of being embedded. A message that could not be stored after its broadcast is withdrawn
+ * with a second event carrying only its id, its chat id and {@code retracted} set; it may arrive
+ * before the message itself.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "ChatMessageEvent DTO")
+public class ChatMessageEvent {
+    @Schema(description = "ChatMessage id value")
+    private BigInteger id;
+
+    @Schema(description = "Chat id value")
+    private BigInteger chatId;
+
+    @Schema(description = "Chat Member id value")
+    private BigInteger chatMemberId;
+
+    @Schema(description = "ChatMessage firstAndLastName")
+    private String firstAndLastName;
+
+    @Schema(description = "ChatMessage content")
+    private String content;
+
+    @Schema(description = "ChatMessage date of creation")
+    private LocalDate dateOfCreation;
+
+    @Schema(description = "URL of the ChatMessage attachment, absent when there is none")
+    private String attachmentUrl;
+
+    @Schema(description = "True when the ChatMessage could not be stored and is withdrawn")
+    private boolean retracted;
+}
@@ -5,7 +5,6 @@ import lombok.*;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
-import java.util.List;
 
 @Getter
 @Setter
@@ -25,9 +24,6 @@ public class GetChatMessageResponse {
     @Schema(description = "ChatMessage date of creation")
     private LocalDate dateOfCreation;
 
-    @Schema(description = "ChatMessage viewedBy")
-    private List<String> viewedBy;
-
     @Schema(description = "ChatMessage firstAndLastName")
     private String firstAndLastName;
 
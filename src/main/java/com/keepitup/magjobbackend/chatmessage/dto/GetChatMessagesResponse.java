@@ -36,9 +36,6 @@ public class GetChatMessagesResponse {
         @Schema(description = "Chat id value")
         private BigInteger chatId;
 
-        @Schema(description = "ChatMessage viewedBy")
-        private List<String> viewedBy;
-
         @Schema(description = "ChatMessage firstAndLastName")
         private String firstAndLastName;
 
@@ -55,4 +52,7 @@ public class GetChatMessagesResponse {
 
     @Schema(description = "Number of all objects")
     private Integer count;
+
+    @Schema(description = "Cursor pointing to older messages, absent when there are none")
+    private String nextCursor;
 }
\ No newline at end of file
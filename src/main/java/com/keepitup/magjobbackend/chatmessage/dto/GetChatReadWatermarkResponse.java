@@ -0,0 +1,28 @@
+package com.keepitup.magjobbackend.chatmessage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetChatReadWatermarkResponse DTO")
+public class GetChatReadWatermarkResponse {
+    @Schema(description = "Chat id value")
+    private BigInteger chatId;
+
+    @Schema(description = "Chat Member id value")
+    private BigInteger chatMemberId;
+
+    @Schema(description = "Id of the newest chat message read by the chat member")
+    private BigInteger lastReadMessageId;
+
+    @Schema(description = "Number of chat messages not yet read by the chat member")
+    private Long unreadCount;
+}
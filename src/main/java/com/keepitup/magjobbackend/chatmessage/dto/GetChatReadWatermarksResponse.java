@@ -0,0 +1,39 @@
+package com.keepitup.magjobbackend.chatmessage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetChatReadWatermarksResponse DTO")
+public class GetChatReadWatermarksResponse {
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @ToString
+    @EqualsAndHashCode
+    public static class ChatReadWatermark {
+        @Schema(description = "Chat Member id value")
+        private BigInteger chatMemberId;
+
+        @Schema(description = "Id of the newest chat message read by the chat member")
+        private BigInteger lastReadMessageId;
+    }
+
+    @Schema(description = "Chat id value")
+    private BigInteger chatId;
+
+    @Singular
+    @Schema(description = "Read watermarks of the chat members who have read anything")
+    private List<ChatReadWatermark> readWatermarks;
+}
@@ -0,0 +1,39 @@
+package com.keepitup.magjobbackend.chatmessage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetChatUnreadCountsResponse DTO")
+public class GetChatUnreadCountsResponse {
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @ToString
+    @EqualsAndHashCode
+    public static class ChatUnreadCount {
+        @Schema(description = "Chat id value")
+        private BigInteger chatId;
+
+        @Schema(description = "Number of chat messages not yet read by the member")
+        private Long unreadCount;
+    }
+
+    @Schema(description = "Member id value")
+    private BigInteger memberId;
+
+    @Singular
+    @Schema(description = "Unread counts of the member's chats that have unread messages")
+    private List<ChatUnreadCount> unreadCounts;
+}
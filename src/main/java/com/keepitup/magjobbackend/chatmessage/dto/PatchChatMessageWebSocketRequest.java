@@ -16,7 +16,4 @@ import java.math.BigInteger;
 public class PatchChatMessageWebSocketRequest {
     @Schema(description = "chat message id value")
     private BigInteger chatMessageId;
-
-    @Schema(description = "chat message viewed by value")
-    private String viewedBy;
 }
@@ -0,0 +1,19 @@
+package com.keepitup.magjobbackend.chatmessage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "PatchChatReadWatermarkRequest DTO")
+public class PatchChatReadWatermarkRequest {
+    @Schema(description = "Id of the newest chat message read by the chat member")
+    private BigInteger lastReadMessageId;
+}
@@ -1,15 +1,16 @@
 package com.keepitup.magjobbackend.chatmessage.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.keepitup.magjobbackend.chat.entity.Chat;
 import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.util.Date;
-import java.util.List;
 
 @Getter
 @Setter
@@ -19,11 +20,15 @@ import java.util.List;
 @ToString
 @EqualsAndHashCode
 @Entity
-@Table(name = "chat_messages")
-public class ChatMessage {
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_chat_id_id", columnList = "chat_id, id")
+})
+public class ChatMessage implements Persistable<BigInteger> {
+    /**
+     * Assigned by {@link com.keepitup.magjobbackend.chatmessage.ingest.ChatMessageIdAllocator} before the
+     * message is written.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chatMessageSequenceGenerator")
-    @SequenceGenerator(name = "chatMessageSequenceGenerator")
     BigInteger id;
 
     @Column(name = "content")
@@ -32,9 +37,6 @@ public class ChatMessage {
     @Column(name = "date_of_creation")
     LocalDate dateOfCreation;
 
-    @ElementCollection
-    List<String> viewedBy;
-
     @Lob
     byte[] attachment;
 
@@ -48,4 +50,26 @@ public class ChatMessage {
 
     @Column(name = "first_and_last_name")
     String firstAndLastName;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    boolean persisted;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * Marks the message as already written, so that saving it updates the existing row.
+     */
+    @PostLoad
+    @PostPersist
+    public void markPersisted() {
+        persisted = true;
+    }
 }
@@ -0,0 +1,53 @@
+package com.keepitup.magjobbackend.chatmessage.entity;
+
+import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigInteger;
+
+/**
+ * Per-chat-member read state of a chat. Every message of the chat with an id up to
+ * {@code lastReadMessageId} counts as read by the chat member; the member's unread count is the
+ * number of newer messages written by others. Ids are allocated in acceptance order across nodes,
+ * but a message may still be broadcast a moment after a newer one, so a watermark can cover a
+ * message delivered just after it was set.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Entity
+@Table(name = "chat_read_watermarks", indexes = {
+        @Index(name = "idx_chat_read_watermarks_chat_id", columnList = "chat_id")
+})
+public class ChatReadWatermark {
+    @Id
+    @Column(name = "chat_member_id")
+    private BigInteger chatMemberId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_member_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ChatMember chatMember;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Chat chat;
+
+    @Column(name = "last_read_message_id", nullable = false)
+    private BigInteger lastReadMessageId;
+}
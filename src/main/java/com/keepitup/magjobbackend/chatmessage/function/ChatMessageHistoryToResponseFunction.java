@@ -0,0 +1,37 @@
+package com.keepitup.magjobbackend.chatmessage.function;
+
+import com.keepitup.magjobbackend.chatmessage.dto.GetChatMessagesResponse;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.util.CursorUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Component
+public class ChatMessageHistoryToResponseFunction implements BiFunction<List<ChatMessage>, Integer, GetChatMessagesResponse> {
+    /**
+     * @param chatMessages messages ordered newest first, fetched with one row more than the limit
+     * @param limit        number of messages requested by the client
+     */
+    @Override
+    public GetChatMessagesResponse apply(List<ChatMessage> chatMessages, Integer limit) {
+        boolean hasMore = chatMessages.size() > limit;
+        List<ChatMessage> page = hasMore ? chatMessages.subList(0, limit) : chatMessages;
+
+        return GetChatMessagesResponse.builder()
+                .chatMessages(page.stream()
+                        .map(chatMessage -> GetChatMessagesResponse.ChatMessage.builder()
+                                .id(chatMessage.getId())
+                                .content(chatMessage.getContent())
+                                .attachment(chatMessage.getAttachment())
+                                .dateOfCreation(chatMessage.getDateOfCreation())
+                                .chatMemberId(chatMessage.getChatMember().getId())
+                                .firstAndLastName(chatMessage.getFirstAndLastName())
+                                .build())
+                        .toList())
+                .count(page.size())
+                .nextCursor(hasMore ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.keepitup.magjobbackend.chatmessage.function;
+
+import com.keepitup.magjobbackend.chatmessage.dto.ChatMessageEvent;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class ChatMessageToEventFunction implements Function<ChatMessage, ChatMessageEvent> {
+    public static final String ATTACHMENT_URL_TEMPLATE = "/api/messages/%s/attachment";
+
+    @Override
+    public ChatMessageEvent apply(ChatMessage chatMessage) {
+        return ChatMessageEvent.builder()
+                .id(chatMessage.getId())
+                .chatId(chatMessage.getChat().getId())
+                .chatMemberId(chatMessage.getChatMember().getId())
+                .firstAndLastName(chatMessage.getFirstAndLastName())
+                .content(chatMessage.getContent())
+                .dateOfCreation(chatMessage.getDateOfCreation())
+                .attachmentUrl(chatMessage.getAttachment() != null
+                        ? String.format(ATTACHMENT_URL_TEMPLATE, chatMessage.getId())
+                        : null)
+                .build();
+    }
+}
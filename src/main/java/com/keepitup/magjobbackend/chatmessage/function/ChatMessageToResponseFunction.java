@@ -14,7 +14,6 @@ public class ChatMessageToResponseFunction implements Function<ChatMessage, GetC
                 .id(chatMessage.getId())
                 .content(chatMessage.getContent())
                 .attachment(chatMessage.getAttachment())
-                .viewedBy(chatMessage.getViewedBy())
                 .firstAndLastName(chatMessage.getFirstAndLastName())
                 .dateOfCreation(chatMessage.getDateOfCreation())
                 .chatMember(GetChatMessageResponse.ChatMember.builder()
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class ChatMessagesToResponseFunction implements BiFunction<Page<ChatMessage>, Integer, GetChatMessagesResponse> {
+public class ChatMessagesToResponseFunction implements Function<Page<ChatMessage>, GetChatMessagesResponse> {
     @Override
-    public GetChatMessagesResponse apply(Page<ChatMessage> chatMessages, Integer count) {
+    public GetChatMessagesResponse apply(Page<ChatMessage> chatMessages) {
         return GetChatMessagesResponse.builder()
                 .chatMessages(chatMessages.stream()
                         .map(chatMessage -> GetChatMessagesResponse.ChatMessage.builder()
@@ -19,11 +19,10 @@ public class ChatMessagesToResponseFunction implements BiFunction<Page<ChatMessa
                                 .attachment(chatMessage.getAttachment())
                                 .dateOfCreation(chatMessage.getDateOfCreation())
                                 .chatMemberId(chatMessage.getChatMember().getId())
-                                .viewedBy(chatMessage.getViewedBy())
                                 .firstAndLastName(chatMessage.getFirstAndLastName())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(chatMessages.getTotalElements()))
                 .build();
     }
 }
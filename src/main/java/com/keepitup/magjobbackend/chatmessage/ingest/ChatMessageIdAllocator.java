@@ -0,0 +1,50 @@
+package com.keepitup.magjobbackend.chatmessage.ingest;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.java.Log;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigInteger;
+
+/**
+ * Hands out chat message ids before the message is written, so a message can be broadcast with its
+ * final id while it still waits in the {@link ChatMessageWriteBehindBuffer}. Every id is taken from a
+ * shared database sequence one at a time, so ids follow the order in which messages were accepted
+ * across all nodes. Reserving blocks per node would let a node hand out ids lower than messages
+ * already accepted elsewhere, which read watermarks cannot tell apart from read messages.
+ */
+@Component
+@Log
+public class ChatMessageIdAllocator {
+    static final String SEQUENCE_NAME = "chat_message_ids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextIdQuery;
+
+    @Autowired
+    public ChatMessageIdAllocator(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        SequenceSupport sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport();
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.nextIdQuery = sequenceSupport.getSequenceNextValString(SEQUENCE_NAME);
+
+        try {
+            jdbcTemplate.batchUpdate(sequenceSupport.getCreateSequenceStrings(SEQUENCE_NAME, 1, 1));
+        } catch (DataAccessException e) {
+            log.fine("Sequence " + SEQUENCE_NAME + " already exists");
+        }
+    }
+
+    public BigInteger next() {
+        return BigInteger.valueOf(jdbcTemplate.queryForObject(nextIdQuery, Long.class));
+    }
+}
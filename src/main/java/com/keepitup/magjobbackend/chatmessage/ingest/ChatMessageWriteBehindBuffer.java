@@ -0,0 +1,306 @@
+package com.keepitup.magjobbackend.chatmessage.ingest;
+
+import com.keepitup.magjobbackend.chatmessage.dto.ChatMessageEvent;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.chatmessage.repository.api.ChatMessageRepository;
+import com.keepitup.magjobbackend.configuration.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * Bounded write-behind buffer for new chat messages. Messages are queued with their id already
+ * assigned and a single flusher thread inserts them in batches: it waits for the first message,
+ * keeps collecting for the flush interval or until the batch is full and writes the batch in one
+ * transaction. Broadcasting a message therefore does not wait for the database.
+ * <p>
+ * Guarantees: a queued message has usually been broadcast before it is written, so it is not
+ * durable when subscribers see it. A failed batch is retried message by message, so one bad message
+ * does not hold back the others; a message that fails every attempt is withdrawn with a retraction
+ * event on its chat topic. A message queued when the process dies before its batch commits is lost
+ * without a retraction. Stopping the application flushes everything queued before the data source
+ * closes. When the buffer is full, or the buffer is disabled or not running, the caller writes the
+ * message itself before it is broadcast.
+ */
+@Component
+@Log
+public class ChatMessageWriteBehindBuffer implements SmartLifecycle {
+    private final ChatMessageRepository chatMessageRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean enabled;
+    private final BlockingQueue<ChatMessage> queue;
+    private final Map<BigInteger, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final long awaitTimeoutNanos;
+    private final int maxAttempts;
+    private final Counter persisted;
+    private final Counter writtenThrough;
+    private final Counter lost;
+    private final Timer flushTimer;
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Autowired
+    public ChatMessageWriteBehindBuffer(
+            ChatMessageRepository chatMessageRepository,
+            SimpMessagingTemplate messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${keepitup.magjob.chat.write-behind.enabled:true}") boolean enabled,
+            @Value("${keepitup.magjob.chat.write-behind.capacity:10000}") int capacity,
+            @Value("${keepitup.magjob.chat.write-behind.batch-size:50}") int batchSize,
+            @Value("${keepitup.magjob.chat.write-behind.flush-interval:PT0.005S}") Duration flushInterval,
+            @Value("${keepitup.magjob.chat.write-behind.offer-timeout:PT0.05S}") Duration offerTimeout,
+            @Value("${keepitup.magjob.chat.write-behind.await-timeout:PT5S}") Duration awaitTimeout,
+            @Value("${keepitup.magjob.chat.write-behind.max-attempts:3}") int maxAttempts
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.awaitTimeoutNanos = awaitTimeout.toNanos();
+        this.maxAttempts = maxAttempts;
+        Gauge.builder("magjob.chat.write-behind.pending", pending, Map::size)
+                .description("Chat messages accepted but not yet written")
+                .register(meterRegistry);
+        this.persisted = counter(meterRegistry, "persisted");
+        this.writtenThrough = counter(meterRegistry, "written-through");
+        this.lost = counter(meterRegistry, "lost");
+        this.flushTimer = Timer.builder("magjob.chat.write-behind.flush")
+                .description("Duration of writing one batch of chat messages")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a message that already has its id for writing, or writes it right away when it cannot
+     * be queued.
+     */
+    public void submit(ChatMessage chatMessage) {
+        pending.put(chatMessage.getId(), new CompletableFuture<>());
+
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(chatMessage, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (queued && !running) {
+            flush();
+        } else if (!queued) {
+            try {
+                chatMessageRepository.save(chatMessage);
+                writtenThrough.increment();
+            } finally {
+                settle(chatMessage.getId());
+            }
+        }
+    }
+
+    public boolean isPending(BigInteger id) {
+        return pending.containsKey(id);
+    }
+
+    /**
+     * Blocks until the message is written or given up on, so it can be read back from the database,
+     * but no longer than the await timeout.
+     */
+    public void awaitWritten(BigInteger id) {
+        CompletableFuture<Void> written = pending.get(id);
+
+        if (written == null) {
+            return;
+        }
+
+        try {
+            written.get(awaitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.log(Level.WARNING, "Chat message " + id + " is not written yet", e);
+        }
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ChatMessage> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "chat-write-behind");
+        flusher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                ChatMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                flushLock.lock();
+                try {
+                    List<ChatMessage> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    collect(batch);
+                    write(batch);
+                } finally {
+                    flushLock.unlock();
+                }
+            } catch (InterruptedException e) {
+                log.warning("Chat write-behind flusher interrupted, leaving the rest to the shutdown flush");
+                return;
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Chat write-behind flush failed", e);
+            }
+        }
+    }
+
+    private void collect(List<ChatMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                queue.drainTo(batch, batchSize - batch.size());
+                return;
+            }
+            ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void write(List<ChatMessage> batch) {
+        try {
+            flushTimer.record(() -> chatMessageRepository.saveAll(batch));
+            persisted.increment(batch.size());
+            batch.forEach(chatMessage -> settle(chatMessage.getId()));
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Could not write a batch of " + batch.size() + " chat messages, retrying one by one", e);
+            batch.forEach(this::writeWithRetries);
+        }
+    }
+
+    private void writeWithRetries(ChatMessage chatMessage) {
+        try {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    chatMessageRepository.save(chatMessage);
+                    persisted.increment();
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt == maxAttempts) {
+                        lost.increment();
+                        log.log(Level.SEVERE, "Giving up on chat message " + chatMessage.getId()
+                                + " of chat " + chatMessage.getChat().getId(), e);
+                        retract(chatMessage);
+                    }
+                }
+            }
+        } finally {
+            settle(chatMessage.getId());
+        }
+    }
+
+    private void settle(BigInteger id) {
+        CompletableFuture<Void> written = pending.remove(id);
+
+        if (written != null) {
+            written.complete(null);
+        }
+    }
+
+    private void retract(ChatMessage chatMessage) {
+        String destination = String.join(
+                "/",
+                Constants.CHAT_DEFAULT_WEBSOCKET_ENDPOINT,
+                chatMessage.getChat().getId().toString()
+        );
+
+        try {
+            messagingTemplate.convertAndSend(destination, ChatMessageEvent.builder()
+                    .id(chatMessage.getId())
+                    .chatId(chatMessage.getChat().getId())
+                    .retracted(true)
+                    .build());
+        } catch (MessagingException e) {
+            log.log(Level.WARNING, "Could not retract chat message " + chatMessage.getId(), e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("magjob.chat.write-behind.messages")
+                .description("Chat messages written through the write-behind buffer")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,15 +1,45 @@
 package com.keepitup.magjobbackend.chatmessage.repository.api;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.member.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigInteger;
+import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, BigInteger> {
     Page<ChatMessage> findAllByChat(Chat chat, Pageable pageable);
+
+    List<ChatMessage> findAllByChatOrderByIdDesc(Chat chat, Limit limit);
+
+    List<ChatMessage> findAllByChatAndIdLessThanOrderByIdDesc(Chat chat, BigInteger id, Limit limit);
+
+    long countByChatAndIdGreaterThanAndChatMemberNot(Chat chat, BigInteger id, ChatMember chatMember);
+
+    /**
+     * Unread message counts of every chat the member has joined, derived from the read watermarks.
+     * Chats without unread messages are absent.
+     */
+    @Query("select cm.chat.id as chatId, count(m) as unreadCount from ChatMember cm "
+            + "join ChatMessage m on m.chat = cm.chat "
+            + "left join ChatReadWatermark w on w.chatMember = cm "
+            + "where cm.member = :member and cm.isInvitationAccepted = true "
+            + "and m.chatMember <> cm and m.id > coalesce(w.lastReadMessageId, 0) "
+            + "group by cm.chat.id")
+    List<UnreadCount> countUnreadByMember(@Param("member") Member member);
+
+    interface UnreadCount {
+        BigInteger getChatId();
+
+        long getUnreadCount();
+    }
 }
@@ -0,0 +1,36 @@
+package com.keepitup.magjobbackend.chatmessage.repository.api;
+
+import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Repository
+public interface ChatReadWatermarkRepository extends JpaRepository<ChatReadWatermark, BigInteger> {
+    List<ChatReadWatermark> findAllByChat(Chat chat);
+
+    /**
+     * Creates the watermark or moves it forward in one statement; a stale receipt never moves it back.
+     * The requested id is clamped to the newest written message of the chat.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into chat_read_watermarks (chat_member_id, chat_id, last_read_message_id) "
+            + "select :chatMemberId, :chatId, least(:lastReadMessageId, coalesce(max(m.id), 0)) "
+            + "from chat_messages m where m.chat_id = :chatId "
+            + "on conflict (chat_member_id) do update set last_read_message_id = "
+            + "greatest(chat_read_watermarks.last_read_message_id, excluded.last_read_message_id)",
+            nativeQuery = true)
+    int advance(
+            @Param("chatMemberId") BigInteger chatMemberId,
+            @Param("chatId") BigInteger chatId,
+            @Param("lastReadMessageId") BigInteger lastReadMessageId
+    );
+}
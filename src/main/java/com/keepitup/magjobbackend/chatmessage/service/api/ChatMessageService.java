@@ -1,16 +1,27 @@
 package com.keepitup.magjobbackend.chatmessage.service.api;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatReadWatermark;
+import com.keepitup.magjobbackend.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ChatMessageService {
     Optional<ChatMessage> find(BigInteger id);
     Page<ChatMessage> findAllByChat(Chat chat, Pageable pageable);
+    List<ChatMessage> findHistoryByChat(Chat chat, BigInteger beforeId, int limit);
     ChatMessage create(ChatMessage chatMessage);
-    void update(ChatMessage chatMessage);
+    ChatMessage update(ChatMessage chatMessage);
+    BigInteger findReadWatermark(ChatMember chatMember);
+    List<ChatReadWatermark> findReadWatermarksByChat(Chat chat);
+    void advanceReadWatermark(ChatMember chatMember, BigInteger lastReadMessageId);
+    long countUnread(ChatMember chatMember);
+    Map<BigInteger, Long> countUnreadByMember(Member member);
 }
@@ -1,29 +1,53 @@
 package com.keepitup.magjobbackend.chatmessage.service.impl;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
 import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatReadWatermark;
+import com.keepitup.magjobbackend.chatmessage.ingest.ChatMessageIdAllocator;
+import com.keepitup.magjobbackend.chatmessage.ingest.ChatMessageWriteBehindBuffer;
 import com.keepitup.magjobbackend.chatmessage.repository.api.ChatMessageRepository;
+import com.keepitup.magjobbackend.chatmessage.repository.api.ChatReadWatermarkRepository;
 import com.keepitup.magjobbackend.chatmessage.service.api.ChatMessageService;
+import com.keepitup.magjobbackend.member.entity.Member;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class ChatMessageDefaultService implements ChatMessageService {
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
+    private final ChatMessageIdAllocator idAllocator;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
 
     @Autowired
-    public ChatMessageDefaultService(ChatMessageRepository chatMessageRepository) {
+    public ChatMessageDefaultService(
+            ChatMessageRepository chatMessageRepository,
+            ChatReadWatermarkRepository chatReadWatermarkRepository,
+            ChatMessageIdAllocator idAllocator,
+            ChatMessageWriteBehindBuffer writeBehindBuffer
+    ) {
         this.chatMessageRepository = chatMessageRepository;
+        this.chatReadWatermarkRepository = chatReadWatermarkRepository;
+        this.idAllocator = idAllocator;
+        this.writeBehindBuffer = writeBehindBuffer;
     }
 
     @Override
     public Optional<ChatMessage> find(BigInteger id) {
+        if (writeBehindBuffer.isPending(id)) {
+            writeBehindBuffer.awaitWritten(id);
+        }
         return chatMessageRepository.findById(id);
     }
 
@@ -32,6 +56,18 @@ public class ChatMessageDefaultService implements ChatMessageService {
         return chatMessageRepository.findAllByChat(chat, pageable);
     }
 
+    @Override
+    public List<ChatMessage> findHistoryByChat(Chat chat, BigInteger beforeId, int limit) {
+        if (beforeId == null) {
+            return chatMessageRepository.findAllByChatOrderByIdDesc(chat, Limit.of(limit));
+        }
+        return chatMessageRepository.findAllByChatAndIdLessThanOrderByIdDesc(chat, beforeId, Limit.of(limit));
+    }
+
+    /**
+     * Assigns the id and hands the message to the write-behind buffer, the returned message may not
+     * be written yet.
+     */
     @Override
     public ChatMessage create(ChatMessage chatMessage) {
         String firstName = chatMessage.getChatMember().getMember().getUser().getFirstname();
@@ -39,12 +75,59 @@ public class ChatMessageDefaultService implements ChatMessageService {
 
         chatMessage.setDateOfCreation(LocalDate.now());
         chatMessage.setFirstAndLastName(String.join(" ", firstName, lastName));
-        chatMessageRepository.save(chatMessage);
+        chatMessage.setId(idAllocator.next());
+        writeBehindBuffer.submit(chatMessage);
         return chatMessage;
     }
 
     @Override
-    public void update(ChatMessage chatMessage) {
-        chatMessageRepository.save(chatMessage);
+    public ChatMessage update(ChatMessage chatMessage) {
+        chatMessage.markPersisted();
+        return chatMessageRepository.save(chatMessage);
+    }
+
+    /**
+     * Id of the newest message the chat member has read, zero when nothing has been read yet.
+     */
+    @Override
+    public BigInteger findReadWatermark(ChatMember chatMember) {
+        return chatReadWatermarkRepository.findById(chatMember.getId())
+                .map(ChatReadWatermark::getLastReadMessageId)
+                .orElse(BigInteger.ZERO);
+    }
+
+    @Override
+    public List<ChatReadWatermark> findReadWatermarksByChat(Chat chat) {
+        return chatReadWatermarkRepository.findAllByChat(chat);
+    }
+
+    /**
+     * The watermark never passes the newest written message of the chat, so a message still waiting
+     * in the write-behind buffer is written first.
+     */
+    @Override
+    public void advanceReadWatermark(ChatMember chatMember, BigInteger lastReadMessageId) {
+        if (writeBehindBuffer.isPending(lastReadMessageId)) {
+            writeBehindBuffer.awaitWritten(lastReadMessageId);
+        }
+        chatReadWatermarkRepository.advance(chatMember.getId(), chatMember.getChat().getId(), lastReadMessageId);
+    }
+
+    @Override
+    public long countUnread(ChatMember chatMember) {
+        return chatMessageRepository.countByChatAndIdGreaterThanAndChatMemberNot(
+                chatMember.getChat(),
+                findReadWatermark(chatMember),
+                chatMember
+        );
+    }
+
+    @Override
+    public Map<BigInteger, Long> countUnreadByMember(Member member) {
+        return chatMessageRepository.countUnreadByMember(member).stream()
+                .collect(Collectors.toMap(
+                        ChatMessageRepository.UnreadCount::getChatId,
+                        ChatMessageRepository.UnreadCount::getUnreadCount
+                ));
     }
 }
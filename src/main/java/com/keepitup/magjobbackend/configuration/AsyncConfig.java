@@ -0,0 +1,59 @@
+package com.keepitup.magjobbackend.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String KEYCLOAK_SYNC_EXECUTOR = "keycloakSyncExecutor";
+
+    /**
+     * Executor for notification delivery. Submissions beyond the queue capacity are rejected so
+     * that request threads never run deliveries themselves; rejected work stays in the outbox.
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public Executor notificationExecutor(
+            @Value("${keepitup.magjob.notification.executor.core-pool-size:2}") int corePoolSize,
+            @Value("${keepitup.magjob.notification.executor.max-pool-size:4}") int maxPoolSize,
+            @Value("${keepitup.magjob.notification.executor.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor applying queued Keycloak group changes, one organization per task. Rejected work
+     * stays in the sync queue and is picked up by the next poll.
+     */
+    @Bean(name = KEYCLOAK_SYNC_EXECUTOR)
+    public Executor keycloakSyncExecutor(
+            @Value("${keepitup.magjob.keycloak-sync.executor.core-pool-size:2}") int corePoolSize,
+            @Value("${keepitup.magjob.keycloak-sync.executor.max-pool-size:4}") int maxPoolSize,
+            @Value("${keepitup.magjob.keycloak-sync.executor.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("keycloak-sync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -18,6 +18,7 @@ public class Constants {
     public static final String NOTIFICATION_MEMBER_DEFAULT_WEBSOCKET_ENDPOINT = "/topic/member";
     public static final String NOTIFICATION_ORGANIZATION_DEFAULT_WEBSOCKET_ENDPOINT = "/topic/organization";
     public static final String NOTIFICATION_ENDPOINT = "/notifications";
+    public static final String NOTIFICATION_UNREAD_COUNT_ENDPOINT = "/notifications/unread-count";
 
     public static final String NOTIFICATION_USER_UPDATE_TEMPLATE = "User profile has been updated";
     public static final String NOTIFICATION_INVITATION_CREATION_TEMPLATE = "You have been invited to organization %s";
@@ -43,4 +44,8 @@ public class Constants {
     public static final String CHAT_LEAVE_MESSAGE = "Chat member %s has left chat";
     public static final String CHAT_ADD_ADMIN_MESSAGE = "Chat member %s has been granted administrator privileges";
     public static final String CHAT_DELETE_ADMIN_MESSAGE = "Chat member %s is no longer administrator in this chat";
+
+    //Pagination
+    public static final int CURSOR_PAGE_MAX_LIMIT = 100;
+    public static final int BULK_OPERATION_MAX_SIZE = 500;
 }
@@ -0,0 +1,91 @@
+package com.keepitup.magjobbackend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+
+/**
+ * Wraps the pooled client used for Keycloak admin calls. Every request is timed and passes the
+ * {@link KeycloakCircuitBreaker}; transport errors and 5xx responses count as failures.
+ */
+class InstrumentedKeycloakHttpClient extends CloseableHttpClient {
+    private static final String REQUEST_TIMER = "magjob.keycloak.admin.requests";
+
+    private final CloseableHttpClient delegate;
+    private final KeycloakCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    InstrumentedKeycloakHttpClient(
+            CloseableHttpClient delegate,
+            KeycloakCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context)
+            throws IOException, ClientProtocolException {
+        String method = request.getRequestLine().getMethod();
+
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter(REQUEST_TIMER + ".rejected", "method", method).increment();
+            throw new IOException("Keycloak admin API circuit is open");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            CloseableHttpResponse response = delegate.execute(target, request, context);
+            int status = response.getStatusLine().getStatusCode();
+
+            if (status >= 500) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+
+            sample.stop(timer(method, (status / 100) + "xx"));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.recordFailure();
+            sample.stop(timer(method, "error"));
+            throw e;
+        }
+    }
+
+    private Timer timer(String method, String outcome) {
+        return Timer.builder(REQUEST_TIMER)
+                .description("Latency of Keycloak admin API requests")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+}
@@ -1,6 +1,11 @@
 package com.keepitup.magjobbackend.configuration;
 
+import com.keepitup.magjobbackend.keycloaksync.admin.KeycloakGroupAdmin;
+import com.keepitup.magjobbackend.keycloaksync.admin.KeycloakGroupPathCache;
+import com.keepitup.magjobbackend.role.entity.Role;
+import com.keepitup.magjobbackend.role.service.api.RoleService;
 import com.keepitup.magjobbackend.user.entity.User;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.representations.idm.CredentialRepresentation;
@@ -12,119 +17,209 @@ import org.keycloak.admin.client.CreatedResponseUtil;
 
 
 import java.util.*;
+import java.util.function.Consumer;
 
 @Component
-public class KeycloakController {
+public class KeycloakController implements KeycloakGroupAdmin {
     final KeycloakSecurityUtil keycloakUtil;
+    private final KeycloakGroupPathCache groupPathCache;
+    private final RoleService roleService;
 
     @Value("${realm}")
     private String realm;
 
-    public KeycloakController(KeycloakSecurityUtil keycloakUtil) {
+    public KeycloakController(KeycloakSecurityUtil keycloakUtil, KeycloakGroupPathCache groupPathCache, RoleService roleService) {
         this.keycloakUtil = keycloakUtil;
+        this.groupPathCache = groupPathCache;
+        this.roleService = roleService;
     }
 
 
-    public Map<String, String> createGroupRepresentation(String organizationName, UUID userId) {
-        GroupRepresentation parentGroupRepresentation = new GroupRepresentation();
+    @Override
+    public Map<String, String> createOrganizationGroups(String organizationName, UUID ownerId) {
         Map<String, String> roleName2ExternalId = new HashMap<>();
 
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
 
-        parentGroupRepresentation.setName(organizationName);
-
-        addParentGroupToKeycloak(parentGroupRepresentation, keycloak);
+        String parentGroupId = addParentGroupToKeycloak(keycloak, organizationName);
 
         for (String childGroupName : Constants.DEFAULT_ROLE_NAMES) {
-            roleName2ExternalId.put(
-                    childGroupName,
-                    addChildGroupToKeycloak(keycloak, parentGroupRepresentation.getId(), childGroupName, userId)
-            );
+            String childGroupId = addChildGroupToKeycloak(keycloak, organizationName, parentGroupId, childGroupName);
+
+            if (childGroupName.equals(Constants.ROLE_NAME_OWNER)) {
+                keycloak.realm(realm).users().get(String.valueOf(ownerId)).joinGroup(childGroupId);
+            }
+
+            roleName2ExternalId.put(childGroupName, childGroupId);
         }
 
         return roleName2ExternalId;
     }
 
-    public void addChildGroupToKeycloak(String organizationName, String roleName) {
+    @Override
+    public String createGroup(String parentGroupPath, String groupName) {
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation childGroup = new GroupRepresentation();
+        String parentGroupId = findGroupId(keycloak, parentGroupPath)
+                .orElseThrow(() -> new NotFoundException("Group not found: " + parentGroupPath));
 
-        childGroup.setName(roleName);
+        return addChildGroupToKeycloak(keycloak, parentGroupPath, parentGroupId, groupName);
+    }
 
-        GroupRepresentation parentGroup = keycloak.realm(realm).getGroupByPath(organizationName);
+    @Override
+    public void deleteGroup(String groupPath) {
+        Keycloak keycloak = keycloakUtil.getKeycloakInstance();
 
-        keycloak.realm(realm).groups().group(parentGroup.getId()).subGroup(childGroup);
+        findGroupId(keycloak, groupPath).ifPresent(groupId -> {
+            try {
+                keycloak.realm(realm).groups().group(groupId).remove();
+            } catch (NotFoundException e) {
+                // already gone
+            }
+        });
+
+        groupPathCache.evict(groupPath);
     }
 
-    public void deleteChildGroupFromKeycloak(String organizationName, String roleName) {
+    @Override
+    public void addUserToGroup(String groupPath, UUID userId) {
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation groupRepresentation = keycloak.realm(realm).getGroupByPath(organizationName + "/" + roleName);
-        try {
-            keycloak.realm(realm).groups().group(groupRepresentation.getId()).remove();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+
+        withGroupId(keycloak, groupPath, groupId ->
+                keycloak.realm(realm).users().get(String.valueOf(userId)).joinGroup(groupId));
     }
 
-    public void addUserToKeycloakGroup(String organizationName, UUID userId) {
+    @Override
+    public void removeUserFromGroup(String groupPath, UUID userId) {
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation groupRepresentation = keycloak.realm(realm).getGroupByPath(organizationName + "/" + Constants.ROLE_NAME_MEMBER);
-        try {
-            keycloak.realm(realm).users().get(String.valueOf(userId)).joinGroup(groupRepresentation.getId());
-        } catch (Exception e) {
-            e.printStackTrace();
+
+        if (findGroupId(keycloak, groupPath).isPresent()) {
+            withGroupId(keycloak, groupPath, groupId ->
+                    keycloak.realm(realm).users().get(String.valueOf(userId)).leaveGroup(groupId));
         }
     }
 
-    public void addUserToKeycloakGroup(String organizationName, UUID userId, String roleName) {
+    @Override
+    public Map<String, String> findSubgroupIds(String parentGroupPath, int pageSize) {
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation groupRepresentation = keycloak.realm(realm).getGroupByPath(organizationName + "/" + roleName);
-        try {
-            keycloak.realm(realm).users().get(String.valueOf(userId)).joinGroup(groupRepresentation.getId());
-        } catch (Exception e) {
-            e.printStackTrace();
+        Map<String, String> groupName2Id = new HashMap<>();
+
+        Optional<String> parentGroupId = findGroupId(keycloak, parentGroupPath);
+        if (parentGroupId.isEmpty()) {
+            return groupName2Id;
         }
+
+        List<GroupRepresentation> page;
+        int first = 0;
+        do {
+            page = keycloak.realm(realm).groups().group(parentGroupId.get()).getSubGroups(first, pageSize, true);
+            for (GroupRepresentation group : page) {
+                groupName2Id.put(group.getName(), group.getId());
+                groupPathCache.put(parentGroupPath + "/" + group.getName(), group.getId());
+            }
+            first += pageSize;
+        } while (page.size() == pageSize);
+
+        return groupName2Id;
     }
 
-    public void removeUserFromKeycloakGroup(String organizationName, UUID userId, String roleName) {
+    @Override
+    public Set<UUID> findGroupMemberIds(String groupPath, int pageSize) {
         Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation groupRepresentation = keycloak.realm(realm).getGroupByPath(organizationName + "/" + roleName);
+        String groupId = findGroupId(keycloak, groupPath)
+                .orElseThrow(() -> new NotFoundException("Group not found: " + groupPath));
+        Set<UUID> memberIds = new HashSet<>();
+
+        List<UserRepresentation> page;
+        int first = 0;
+        do {
+            page = keycloak.realm(realm).groups().group(groupId).members(first, pageSize, true);
+            page.forEach(user -> memberIds.add(UUID.fromString(user.getId())));
+            first += pageSize;
+        } while (page.size() == pageSize);
+
+        return memberIds;
+    }
+
+    /**
+     * Runs the action with the id of the group, resolved without a Keycloak call whenever possible.
+     * If the resolved id turns out to be stale, it is looked up in Keycloak once more and the action repeated.
+     */
+    private void withGroupId(Keycloak keycloak, String groupPath, Consumer<String> action) {
+        String groupId = findGroupId(keycloak, groupPath)
+                .orElseThrow(() -> new NotFoundException("Group not found: " + groupPath));
+
         try {
-            keycloak.realm(realm).users().get(String.valueOf(userId)).leaveGroup(groupRepresentation.getId());
-        } catch (Exception e) {
-            e.printStackTrace();
+            action.accept(groupId);
+        } catch (NotFoundException e) {
+            groupPathCache.evict(groupPath);
+            String currentGroupId = findGroupByPath(keycloak, groupPath)
+                    .map(GroupRepresentation::getId)
+                    .filter(id -> !id.equals(groupId))
+                    .orElseThrow(() -> e);
+            groupPathCache.put(groupPath, currentGroupId);
+            action.accept(currentGroupId);
         }
     }
 
-    //TODO Modify method to remove from all subgroups in Keycloak
-    public void removeUserFromKeycloakGroup(String organizationName, UUID userId) {
-        Keycloak keycloak = keycloakUtil.getKeycloakInstance();
-        GroupRepresentation groupRepresentation = keycloak.realm(realm).getGroupByPath(organizationName + "/" + Constants.ROLE_NAME_MEMBER);
-        try {
-            keycloak.realm(realm).users().get(String.valueOf(userId)).leaveGroup(groupRepresentation.getId());
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Resolves a group id from the cache, then from the external ids stored on roles, and only then from Keycloak.
+     */
+    private Optional<String> findGroupId(Keycloak keycloak, String groupPath) {
+        Optional<String> groupId = groupPathCache.get(groupPath)
+                .or(() -> findRoleExternalId(groupPath))
+                .or(() -> findGroupByPath(keycloak, groupPath).map(GroupRepresentation::getId));
+
+        groupId.ifPresent(id -> groupPathCache.put(groupPath, id));
+        return groupId;
+    }
+
+    private Optional<String> findRoleExternalId(String groupPath) {
+        int separator = groupPath.lastIndexOf('/');
+        if (separator < 0) {
+            return Optional.empty();
         }
+
+        return roleService.findByOrganizationNameAndName(groupPath.substring(0, separator), groupPath.substring(separator + 1))
+                .map(Role::getExternalId);
     }
 
-    private void addParentGroupToKeycloak(GroupRepresentation groupRepresentation, Keycloak keycloak) {
+    /**
+     * Creates the group straight away; a group left behind by an interrupted earlier attempt is only looked up
+     * when Keycloak reports the conflict, so the call can be safely retried.
+     */
+    private String addParentGroupToKeycloak(Keycloak keycloak, String organizationName) {
+        GroupRepresentation groupRepresentation = new GroupRepresentation();
+        groupRepresentation.setName(organizationName);
+
         try (Response response = keycloak.realm(realm).groups().add(groupRepresentation)) {
-            String groupId = CreatedResponseUtil.getCreatedId(response);
-            groupRepresentation.setId(groupId);
+            return cacheCreatedGroup(keycloak, organizationName, response);
         }
     }
-    private String addChildGroupToKeycloak(Keycloak keycloak, String parentGroupId, String childGroupName, UUID userId) {
+
+    private String addChildGroupToKeycloak(Keycloak keycloak, String parentGroupPath, String parentGroupId, String childGroupName) {
         GroupRepresentation childGroup = new GroupRepresentation();
-        String childGroupId;
         childGroup.setName(childGroupName);
-        try (Response response = keycloak.realm(realm).groups().group(parentGroupId).subGroup(childGroup)){
-            childGroupId = CreatedResponseUtil.getCreatedId(response);
-            if (childGroup.getName().equals(Constants.ROLE_NAME_OWNER)) {
-                keycloak.realm(realm).users().get(String.valueOf(userId)).joinGroup(childGroupId);
-            }
+
+        try (Response response = keycloak.realm(realm).groups().group(parentGroupId).subGroup(childGroup)) {
+            return cacheCreatedGroup(keycloak, parentGroupPath + "/" + childGroupName, response);
         }
+    }
+
+    private String cacheCreatedGroup(Keycloak keycloak, String groupPath, Response response) {
+        String groupId = response.getStatus() == Response.Status.CONFLICT.getStatusCode()
+                ? keycloak.realm(realm).getGroupByPath(groupPath).getId()
+                : CreatedResponseUtil.getCreatedId(response);
 
-        return childGroupId;
+        groupPathCache.put(groupPath, groupId);
+        return groupId;
+    }
+
+    private Optional<GroupRepresentation> findGroupByPath(Keycloak keycloak, String path) {
+        try {
+            return Optional.of(keycloak.realm(realm).getGroupByPath(path));
+        } catch (NotFoundException e) {
+            return Optional.empty();
+        }
     }
 
     public String createUser(UserRepresentation userRepresentation) {
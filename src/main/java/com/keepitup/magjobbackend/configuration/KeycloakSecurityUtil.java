@@ -1,44 +1,109 @@
 package com.keepitup.magjobbackend.configuration;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
+import org.jboss.resteasy.client.jaxrs.internal.ResteasyClientBuilderImpl;
+import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.KeycloakBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.keycloak.admin.client.Keycloak;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Owns the single Keycloak admin client. It is built once at startup on top of a pooled HTTP client
+ * with explicit timeouts, so concurrent callers share the access token and the connections instead
+ * of queueing on RESTEasy's small default pool. Requests go through a circuit breaker and report
+ * their latency; pool utilization and the circuit state are exported as gauges.
+ */
 @Component
 public class KeycloakSecurityUtil {
-    Keycloak keycloak;
-
-    @Value("${server-url}")
-    private String serverUrl;
-
-    @Value("${realm}")
-    private String realm;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final KeycloakCircuitBreaker circuitBreaker;
+    private final Keycloak keycloak;
 
-    @Value("${client-id}")
-    private String clientId;
+    @Autowired
+    public KeycloakSecurityUtil(
+            MeterRegistry meterRegistry,
+            @Value("${server-url}") String serverUrl,
+            @Value("${realm}") String realm,
+            @Value("${client-id}") String clientId,
+            @Value("${grant-type}") String grantType,
+            @Value("${name}") String username,
+            @Value("${password}") String password,
+            @Value("${keepitup.magjob.keycloak-client.max-connections:50}") int maxConnections,
+            @Value("${keepitup.magjob.keycloak-client.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${keepitup.magjob.keycloak-client.socket-timeout:PT5S}") Duration socketTimeout,
+            @Value("${keepitup.magjob.keycloak-client.connection-request-timeout:PT2S}") Duration connectionRequestTimeout,
+            @Value("${keepitup.magjob.keycloak-client.connection-time-to-live:PT5M}") Duration connectionTimeToLive,
+            @Value("${keepitup.magjob.keycloak-client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${keepitup.magjob.keycloak-client.circuit-breaker.open-duration:PT30S}") Duration openDuration
+    ) {
+        // Keycloak is a single host, so one route may use the whole pool
+        this.connectionManager = new PoolingHttpClientConnectionManager(connectionTimeToLive.toMillis(), TimeUnit.MILLISECONDS);
+        this.connectionManager.setMaxTotal(maxConnections);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnections);
+        this.circuitBreaker = new KeycloakCircuitBreaker(failureThreshold, openDuration);
 
-    @Value("${grant-type}")
-    private String grantType;
+        CloseableHttpClient pooledClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(Math.toIntExact(connectTimeout.toMillis()))
+                        .setSocketTimeout(Math.toIntExact(socketTimeout.toMillis()))
+                        .setConnectionRequestTimeout(Math.toIntExact(connectionRequestTimeout.toMillis()))
+                        .build())
+                .evictIdleConnections(connectionTimeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
 
-    @Value("${name}")
-    private String username;
+        this.keycloak = KeycloakBuilder.builder()
+                .serverUrl(serverUrl)
+                .realm(realm)
+                .clientId(clientId)
+                .grantType(grantType)
+                .username(username)
+                .password(password)
+                .resteasyClient(new ResteasyClientBuilderImpl()
+                        .httpEngine(new ApacheHttpClient43Engine(
+                                new InstrumentedKeycloakHttpClient(pooledClient, circuitBreaker, meterRegistry), true))
+                        .register(JacksonProvider.class, 100)
+                        .build())
+                .build();
 
-    @Value("${password}")
-    private String password;
+        registerPoolGauge(meterRegistry, "leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, "available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, "pending", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, "max", PoolStats::getMax);
+        Gauge.builder("magjob.keycloak.admin.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == KeycloakCircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("Whether calls to the Keycloak admin API are currently being short-circuited")
+                .register(meterRegistry);
+    }
 
     public Keycloak getKeycloakInstance() {
-        if (keycloak == null) {
-            keycloak = KeycloakBuilder.builder()
-                    .serverUrl(serverUrl)
-                    .realm(realm)
-                    .clientId(clientId)
-                    .grantType(grantType)
-                    .username(username)
-                    .password(password)
-                    .build();
-        }
-
         return keycloak;
     }
+
+    @PreDestroy
+    public void close() {
+        keycloak.close();
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, String state, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("magjob.keycloak.admin.pool.connections", connectionManager,
+                        manager -> value.applyAsDouble(manager.getTotalStats()))
+                .description("Connections of the Keycloak admin client pool")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
 }
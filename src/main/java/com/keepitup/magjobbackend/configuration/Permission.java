@@ -0,0 +1,55 @@
+package com.keepitup.magjobbackend.configuration;
+
+import com.keepitup.magjobbackend.role.entity.Role;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public enum Permission {
+    CAN_MANAGE_TASKS(Constants.PERMISSION_NAME_CAN_MANAGE_TASKS, Role::getCanManageTasks),
+    CAN_MANAGE_ANNOUNCEMENTS(Constants.PERMISSION_NAME_CAN_MANAGE_ANNOUNCEMENTS, Role::getCanManageAnnouncements),
+    CAN_MANAGE_INVITATIONS(Constants.PERMISSION_NAME_CAN_MANAGE_INVITATIONS, Role::getCanManageInvitations),
+    CAN_MANAGE_ROLES(Constants.PERMISSION_NAME_CAN_MANAGE_ROLES, Role::getCanManageRoles);
+
+    private static final Map<String, Permission> PERMISSIONS_BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Permission::getPermissionName, Function.identity()));
+
+    private final String permissionName;
+    private final int mask;
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Role, Boolean> roleFlag;
+
+    Permission(String permissionName, Function<Role, Boolean> roleFlag) {
+        this.permissionName = permissionName;
+        this.mask = 1 << ordinal();
+        this.roleFlag = roleFlag;
+    }
+
+    public boolean isGrantedBy(Role role) {
+        return Boolean.TRUE.equals(roleFlag.apply(role));
+    }
+
+    public static Permission fromName(String permissionName) {
+        Permission permission = PERMISSIONS_BY_NAME.get(permissionName);
+        if (permission == null) {
+            throw new IllegalArgumentException("Invalid permission name: " + permissionName);
+        }
+        return permission;
+    }
+
+    public static int maskOf(Role role) {
+        int mask = 0;
+        for (Permission permission : values()) {
+            if (permission.isGrantedBy(role)) {
+                mask |= permission.mask;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,45 @@
+package com.keepitup.magjobbackend.configuration;
+
+import com.keepitup.magjobbackend.role.cache.RolePermissions;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * Effective permissions of the current member in a single organization, folded from all of
+ * the member's roles into one bitset over {@link Permission} masks.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+public final class PermissionSnapshot {
+    private final BigInteger organizationId;
+    private final int permissions;
+    private final boolean admin;
+
+    public boolean has(Permission permission) {
+        return admin || (permissions & permission.getMask()) != 0;
+    }
+
+    public static PermissionSnapshot empty(BigInteger organizationId) {
+        return new PermissionSnapshot(organizationId, 0, false);
+    }
+
+    public static PermissionSnapshot of(BigInteger organizationId, Collection<RolePermissions> roles) {
+        int permissions = 0;
+        boolean admin = false;
+
+        for (RolePermissions role : roles) {
+            permissions |= role.getPermissions();
+            admin |= role.isAdmin();
+        }
+
+        return new PermissionSnapshot(organizationId, permissions, admin);
+    }
+}
@@ -1,13 +1,14 @@
 package com.keepitup.magjobbackend.configuration;
 
 import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.service.impl.ChatMemberDefaultService;
 import com.keepitup.magjobbackend.jwt.CustomJwt;
 import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.member.service.impl.MemberDefaultService;
 import com.keepitup.magjobbackend.organization.entity.Organization;
-import com.keepitup.magjobbackend.organization.service.api.OrganizationService;
-import com.keepitup.magjobbackend.role.entity.Role;
+import com.keepitup.magjobbackend.role.cache.RolePermissions;
 import com.keepitup.magjobbackend.role.service.impl.RoleDefaultService;
-import com.keepitup.magjobbackend.task.dto.PostTaskRequest;
+import com.keepitup.magjobbackend.rolemember.service.impl.RoleMemberDefaultService;
 import com.keepitup.magjobbackend.user.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -15,52 +16,61 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.lang.reflect.Field;
 import java.util.*;
 
 @Service
 public class SecurityService {
-    private final OrganizationService organizationService;
     private final RoleDefaultService roleService;
+    private final RoleMemberDefaultService roleMemberService;
+    private final MemberDefaultService memberService;
+    private final ChatMemberDefaultService chatMemberService;
 
 
     @Autowired
     public SecurityService(
-            OrganizationService organizationService,
-            RoleDefaultService roleService
+            RoleDefaultService roleService,
+            RoleMemberDefaultService roleMemberService,
+            MemberDefaultService memberService,
+            ChatMemberDefaultService chatMemberService
     ) {
-        this.organizationService = organizationService;
         this.roleService = roleService;
+        this.roleMemberService = roleMemberService;
+        this.memberService = memberService;
+        this.chatMemberService = chatMemberService;
     }
 
     public Boolean hasPermission(Organization organization, String permissionName) {
+        return hasPermission(organization, Permission.fromName(permissionName));
+    }
+
+    public boolean hasPermission(Organization organization, Permission permission) {
+        return getPermissionSnapshot(organization).has(permission);
+    }
+
+    public PermissionSnapshot getPermissionSnapshot(Organization organization) {
         var jwt = (CustomJwt) SecurityContextHolder.getContext().getAuthentication();
 
+        return jwt.getPermissionSnapshot(
+                organization.getId(),
+                organizationId -> resolvePermissionSnapshot(jwt, organization)
+        );
+    }
+
+    private PermissionSnapshot resolvePermissionSnapshot(CustomJwt jwt, Organization organization) {
         List<String> userRoles = jwt.getMembershipMap().get(organization.getName());
 
         if (userRoles == null || userRoles.isEmpty()) {
-            return false;
+            return PermissionSnapshot.empty(organization.getId());
         }
 
-        for (String userRole : userRoles) {
-            Role role = roleService.findByNameAndOrganization(userRole, organization)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-            if (hasRolePermission(role, permissionName) || role.getIsAdmin()) {
-                return true;
-            }
-        }
-        return false;
-    }
+        Set<String> roleNames = new HashSet<>(userRoles);
+        Map<String, RolePermissions> roles = roleService.findPermissionsByOrganizationAndNameIn(organization, roleNames);
 
-    private boolean hasRolePermission(Role role, String permissionName) {
-        try {
-            Field permissionField = Role.class.getDeclaredField(permissionName);
-            permissionField.setAccessible(true);
-            Boolean hasPermission = (Boolean) permissionField.get(role);
-            return hasPermission != null && hasPermission;
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new IllegalArgumentException("Invalid permission name: " + permissionName, e);
+        if (roles.size() < roleNames.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
+
+        return PermissionSnapshot.of(organization.getId(), roles.values());
     }
 
     public boolean hasAdminPermission() {
@@ -71,23 +81,9 @@ public class SecurityService {
             return false;
         }
 
-        Set<String> organizationNames = userRoles.keySet();
-        List<Organization> organizations = new ArrayList<>();
-
-        for (String organizationName : organizationNames) {
-            organizations.add(organizationService.findByName(organizationName).get());
-        }
-
-        for (Organization organization : organizations) {
-            for (String roleName : userRoles.get(organization.getName())) {
-                Role role = roleService.findByNameAndOrganization(roleName, organization)
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-                if (role.getIsAdmin() != null && role.getIsAdmin()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return jwt.getAdminPermission(
+                () -> roleMemberService.isAdminInAnyOrganization(UUID.fromString(jwt.getExternalId()))
+        );
     }
 
     public boolean belongsToOrganization(Organization organization) {
@@ -99,18 +95,18 @@ public class SecurityService {
     public boolean belongsToChat(Chat chat, Organization organization) {
         Member member = getCurrentMember(organization);
 
-        return chat.getChatMembers().stream()
-                .anyMatch(chatMember -> chatMember.getMember().equals(member));
+        return chatMemberService.existsByMemberAndChat(member, chat);
     }
 
     public Member getCurrentMember(Organization organization) {
         var jwt = (CustomJwt) SecurityContextHolder.getContext().getAuthentication();
         UUID loggedInUserId = UUID.fromString(jwt.getExternalId());
 
-        return organization.getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(loggedInUserId) && member.getIsStillMember())
-                .findFirst()
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN));
+        return jwt.getCurrentMember(
+                organization.getId(),
+                organizationId -> memberService.findActiveByUserIdAndOrganizationId(loggedInUserId, organizationId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN))
+        );
     }
 
     public boolean isCurrentMember(Member member) {
@@ -148,14 +144,13 @@ public class SecurityService {
     public boolean isChatAdmin(Chat chat) {
         Member member = getCurrentMember(chat.getOrganization());
 
-        return chat.getChatAdministrators().stream()
-                .anyMatch(chatMember -> chatMember.getMember().equals(member));
+        // Chat.chatAdministrators is mapped by the same chat_id column as Chat.chatMembers.
+        return chatMemberService.existsByMemberAndChat(member, chat);
     }
 
     public boolean isChatMember(Chat chat) {
         Member member = getCurrentMember(chat.getOrganization());
 
-        return chat.getChatMembers().stream()
-                .anyMatch(chatMember -> chatMember.getMember().equals(member));
+        return chatMemberService.isAcceptedMember(member, chat);
     }
 }
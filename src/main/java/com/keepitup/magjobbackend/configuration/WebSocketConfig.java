@@ -1,22 +1,83 @@
 package com.keepitup.magjobbackend.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keepitup.magjobbackend.broker.BrokerFanOutRelay;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.DefaultContentTypeResolver;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.*;
 import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final String TOPIC_PREFIX = "/topic";
+
+    private final ObjectMapper objectMapper;
+    private final String brokerMode;
+    private final ObjectProvider<BrokerFanOutRelay> fanOutRelay;
+    private final String relayHost;
+    private final int relayPort;
+    private final String relayLogin;
+    private final String relayPasscode;
+    private final String relayVirtualHost;
+
+    /**
+     * @param brokerMode {@code simple} for the in-memory single-node broker, {@code relay} to relay to an
+     *                   external STOMP broker (requires the {@code stomp-relay} Maven profile), {@code fan-out}
+     *                   for in-memory brokers connected through a shared channel
+     */
+    @Autowired
+    public WebSocketConfig(
+            ObjectMapper objectMapper,
+            @Value("${keepitup.magjob.websocket.broker.mode:simple}") String brokerMode,
+            ObjectProvider<BrokerFanOutRelay> fanOutRelay,
+            @Value("${keepitup.magjob.websocket.broker.relay.host:localhost}") String relayHost,
+            @Value("${keepitup.magjob.websocket.broker.relay.port:61613}") int relayPort,
+            @Value("${keepitup.magjob.websocket.broker.relay.login:guest}") String relayLogin,
+            @Value("${keepitup.magjob.websocket.broker.relay.passcode:guest}") String relayPasscode,
+            @Value("${keepitup.magjob.websocket.broker.relay.virtual-host:}") String relayVirtualHost
+    ) {
+        this.objectMapper = objectMapper;
+        this.brokerMode = brokerMode;
+        this.fanOutRelay = fanOutRelay;
+        this.relayHost = relayHost;
+        this.relayPort = relayPort;
+        this.relayLogin = relayLogin;
+        this.relayPasscode = relayPasscode;
+        this.relayVirtualHost = relayVirtualHost;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        switch (brokerMode) {
+            case "simple" -> config.enableSimpleBroker(TOPIC_PREFIX);
+            case "relay" -> {
+                StompBrokerRelayRegistration relay = config.enableStompBrokerRelay(TOPIC_PREFIX)
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode);
+                if (StringUtils.hasText(relayVirtualHost)) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+            }
+            case "fan-out" -> {
+                config.enableSimpleBroker(TOPIC_PREFIX);
+                config.configureBrokerChannel().interceptors(fanOutRelay.getObject());
+            }
+            default -> throw new IllegalStateException("Unknown message broker mode: " + brokerMode);
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
   
@@ -32,7 +93,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
         resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
-        converter.setObjectMapper(new ObjectMapper());
+        converter.setObjectMapper(objectMapper);
         converter.setContentTypeResolver(resolver);
         messageConverters.add(converter);
         return false;
@@ -0,0 +1,126 @@
+package com.keepitup.magjobbackend.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+/**
+ * Execution model of the STOMP endpoints. Inbound frames and outbound messages run on separately
+ * sized pools. Each session buffers outgoing messages while a send is in progress, so a slow client
+ * occupies at most one outbound thread; a client that exceeds the send time or buffer limit is
+ * disconnected instead of holding up delivery to the rest of its chat. Publish order per session is
+ * preserved despite the pooled outbound channel.
+ */
+@Configuration
+public class WebSocketExecutionConfig implements WebSocketMessageBrokerConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+    private final Duration sendTimeLimit;
+    private final DataSize sendBufferSizeLimit;
+    private final DataSize messageSizeLimit;
+    private final Duration timeToFirstMessage;
+
+    @Autowired
+    public WebSocketExecutionConfig(
+            MeterRegistry meterRegistry,
+            @Value("${keepitup.magjob.websocket.inbound.core-pool-size:8}") int inboundCorePoolSize,
+            @Value("${keepitup.magjob.websocket.inbound.max-pool-size:32}") int inboundMaxPoolSize,
+            @Value("${keepitup.magjob.websocket.inbound.queue-capacity:10000}") int inboundQueueCapacity,
+            @Value("${keepitup.magjob.websocket.outbound.core-pool-size:8}") int outboundCorePoolSize,
+            @Value("${keepitup.magjob.websocket.outbound.max-pool-size:32}") int outboundMaxPoolSize,
+            @Value("${keepitup.magjob.websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+            @Value("${keepitup.magjob.websocket.transport.send-time-limit:PT5S}") Duration sendTimeLimit,
+            @Value("${keepitup.magjob.websocket.transport.send-buffer-size-limit:256KB}") DataSize sendBufferSizeLimit,
+            @Value("${keepitup.magjob.websocket.transport.message-size-limit:64KB}") DataSize messageSizeLimit,
+            @Value("${keepitup.magjob.websocket.transport.time-to-first-message:PT30S}") Duration timeToFirstMessage
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.inboundExecutor = executor("ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        this.outboundExecutor = executor("ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.timeToFirstMessage = timeToFirstMessage;
+
+        registerExecutorGauges("inbound", inboundExecutor);
+        registerExecutorGauges("outbound", outboundExecutor);
+        registerLimitGauge("send-time", "milliseconds", sendTimeLimit.toMillis());
+        registerLimitGauge("send-buffer-size", "bytes", sendBufferSizeLimit.toBytes());
+        registerLimitGauge("message-size", "bytes", messageSizeLimit.toBytes());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(inboundExecutor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(outboundExecutor);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(Math.toIntExact(sendTimeLimit.toMillis()))
+                .setSendBufferSizeLimit(Math.toIntExact(sendBufferSizeLimit.toBytes()))
+                .setMessageSizeLimit(Math.toIntExact(messageSizeLimit.toBytes()))
+                .setTimeToFirstMessage(Math.toIntExact(timeToFirstMessage.toMillis()))
+                .addDecoratorFactory(new WebSocketSessionMetrics(meterRegistry));
+    }
+
+    /**
+     * The executors become beans of the message broker configuration, which initializes and shuts
+     * them down.
+     */
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void registerExecutorGauges(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("magjob.websocket.executor.threads", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads of the STOMP channel executor")
+                .tag("channel", channel)
+                .tag("state", "pool")
+                .register(meterRegistry);
+        Gauge.builder("magjob.websocket.executor.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads of the STOMP channel executor")
+                .tag("channel", channel)
+                .tag("state", "active")
+                .register(meterRegistry);
+        Gauge.builder("magjob.websocket.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Messages waiting for a thread of the STOMP channel executor")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private void registerLimitGauge(String limit, String baseUnit, long value) {
+        Gauge.builder("magjob.websocket.transport.limit", () -> value)
+                .description("Configured limit of the WebSocket transport")
+                .tag("limit", limit)
+                .baseUnit(baseUnit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.keepitup.magjobbackend.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts open WebSocket sessions and sessions closed for exceeding the send time or buffer limit,
+ * which the transport reports with {@link CloseStatus#SESSION_NOT_RELIABLE}.
+ */
+class WebSocketSessionMetrics implements WebSocketHandlerDecoratorFactory {
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final Counter evictedSessions;
+
+    WebSocketSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("magjob.websocket.sessions", openSessions, AtomicInteger::get)
+                .description("Open WebSocket sessions")
+                .register(meterRegistry);
+        this.evictedSessions = Counter.builder("magjob.websocket.sessions.evicted")
+                .description("WebSocket sessions closed because the client did not keep up with sends")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                openSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                openSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evictedSessions.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
@@ -1,7 +1,6 @@
 package com.keepitup.magjobbackend.invitation.controller.impl;
 
 import com.keepitup.magjobbackend.configuration.Constants;
-import com.keepitup.magjobbackend.configuration.KeycloakController;
 import com.keepitup.magjobbackend.configuration.SecurityService;
 import com.keepitup.magjobbackend.invitation.controller.api.InvitationController;
 import com.keepitup.magjobbackend.invitation.dto.AcceptInvitationRequest;
@@ -14,6 +13,7 @@ import com.keepitup.magjobbackend.invitation.function.InvitationsToResponseFunct
 import com.keepitup.magjobbackend.invitation.function.RequestToInvitationFunction;
 import com.keepitup.magjobbackend.invitation.service.api.InvitationService;
 import com.keepitup.magjobbackend.jwt.CustomJwt;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
 import com.keepitup.magjobbackend.member.dto.GetMemberResponse;
 import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.member.function.MemberToResponseFunction;
@@ -29,7 +29,6 @@ import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.RestController;
@@ -52,7 +51,7 @@ public class InvitationDefaultController implements InvitationController {
     private final OrganizationService organizationService;
     private final NotificationDefaultService notificationService;
     private final MemberToResponseFunction memberToResponse;
-    private final KeycloakController keycloakController;
+    private final KeycloakSyncService keycloakSyncService;
     private final SecurityService securityService;
 
 
@@ -66,7 +65,7 @@ public class InvitationDefaultController implements InvitationController {
                                        OrganizationService organizationService,
                                        NotificationDefaultService notificationService,
                                        MemberToResponseFunction memberToResponse,
-                                       KeycloakController keycloakController,
+                                       KeycloakSyncService keycloakSyncService,
                                        SecurityService securityService
     ) {
         this.service = service;
@@ -78,7 +77,7 @@ public class InvitationDefaultController implements InvitationController {
         this.organizationService = organizationService;
         this.notificationService = notificationService;
         this.memberToResponse = memberToResponse;
-        this.keycloakController = keycloakController;
+        this.keycloakSyncService = keycloakSyncService;
         this.securityService = securityService;
     }
 
@@ -107,17 +106,11 @@ public class InvitationDefaultController implements InvitationController {
   
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Optional<Page<Invitation>> countOptional = service.findAllByUserAndIsActive(userId, true, Pageable.unpaged());
-        if (countOptional.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-        }
-        Integer count = countOptional.get().getNumberOfElements();
-
         Optional<Page<Invitation>> invitations = service.findAllByUserAndIsActive(userId, true, pageRequest);
         if (invitations.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
-        return invitationsToResponse.apply(invitations.get(), count);
+        return invitationsToResponse.apply(invitations.get());
     }
 
     @Override
@@ -133,17 +126,11 @@ public class InvitationDefaultController implements InvitationController {
       
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Optional<Page<Invitation>> countOptional = service.findAllByOrganizationAndIsActive(organizationId, true, Pageable.unpaged());
-        if (countOptional.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-        }
-        Integer count = countOptional.get().getNumberOfElements();
-
         Optional<Page<Invitation>> invitations = service.findAllByOrganizationAndIsActive(organizationId, true, pageRequest);
         if (invitations.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
-        return invitationsToResponse.apply(invitations.get(), count);
+        return invitationsToResponse.apply(invitations.get());
     }
 
     @Override
@@ -156,38 +143,30 @@ public class InvitationDefaultController implements InvitationController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Optional<Invitation> invitation = service.findByUserAndOrganization(request.getUserId(), request.getOrganization());
-        if (invitation.isPresent()) {
+        if (service.findByUserAndOrganization(request.getUserId(), request.getOrganization()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
         }
-        else {
-            if (memberService.findByUserAndOrganization(userService.find(request.getUserId()).get(),
-                    organizationService.find(request.getOrganization()).get()).isPresent()) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT);
-            } else {
-                service.create(requestToInvitation.apply(request));
-            }
-        }
-
-        Optional<Invitation> invitationOptional = service.findByUserAndOrganization(request.getUserId(), request.getOrganization());
 
         User user = userService.find(request.getUserId()).orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
-        if (invitationOptional.isPresent()) {
-            invitationOptional.get().setUser(user);
-            invitationOptional.get().setOrganization(organization);
+        if (memberService.findByUserAndOrganization(user, organization).isPresent()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT);
         }
 
+        Invitation invitation = requestToInvitation.apply(request);
+        invitation.setUser(user);
+        invitation.setOrganization(organization);
+
+        Invitation createdInvitation = service.create(invitation);
+
         notificationService.create(Notification.builder()
                 .user(user)
                 .content(String.format(Constants.NOTIFICATION_INVITATION_CREATION_TEMPLATE, organization.getName()))
                 .build());
 
-        return invitationOptional
-                .map(invitationToResponse)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return invitationToResponse.apply(createdInvitation);
     }
 
     @Override
@@ -224,16 +203,18 @@ public class InvitationDefaultController implements InvitationController {
         Optional<User> user = userService.find(request.getUserId());
         Optional<Organization> organization = organizationService.find(request.getOrganization());
 
+        Member createdMember;
+
         if (invitation.isPresent()) {
 
             if (user.isPresent() && organization.isPresent()) {
-                memberService.create(Member.builder()
+                createdMember = memberService.create(Member.builder()
                         .pseudonym(request.getPseudonym())
                         .organization(organization.get())
                         .user(user.get())
                         .build());
 
-                keycloakController.addUserToKeycloakGroup(organization.get().getName(), user.get().getId());
+                keycloakSyncService.enqueueUserAddition(organization.get(), Constants.ROLE_NAME_MEMBER, user.get().getId());
 
                 service.delete(user.get().getId(), organization.get().getId());
 
@@ -249,7 +230,7 @@ public class InvitationDefaultController implements InvitationController {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
 
-        return memberToResponse.apply(memberService.findByUserAndOrganization(user.get(), organization.get()).get());
+        return memberToResponse.apply(createdMember);
     }
 
     @Override
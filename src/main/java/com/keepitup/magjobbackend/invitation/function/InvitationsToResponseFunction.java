@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.invitation.entity.Invitation;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class InvitationsToResponseFunction implements BiFunction<Page<Invitation>, Integer, GetInvitationsResponse> {
+public class InvitationsToResponseFunction implements Function<Page<Invitation>, GetInvitationsResponse> {
     @Override
-    public GetInvitationsResponse apply(Page<Invitation> entities, Integer count) {
+    public GetInvitationsResponse apply(Page<Invitation> entities) {
         return GetInvitationsResponse.builder()
                 .invitations(entities.stream()
                         .map(invitation -> GetInvitationsResponse.Invitation.builder()
@@ -19,7 +19,7 @@ public class InvitationsToResponseFunction implements BiFunction<Page<Invitation
                                 .organizationName(invitation.getOrganization().getName())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
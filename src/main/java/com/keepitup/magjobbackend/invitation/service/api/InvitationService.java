@@ -24,9 +24,9 @@ public interface InvitationService {
 
     Page<Invitation> findAllByDateOfCreation(ZonedDateTime dateOfCreation, Pageable pageable);
 
-    void create(Invitation invitation);
+    Invitation create(Invitation invitation);
 
     void delete(UUID userId, BigInteger organizationId);
 
-    void update(Invitation invitation);
+    Invitation update(Invitation invitation);
 }
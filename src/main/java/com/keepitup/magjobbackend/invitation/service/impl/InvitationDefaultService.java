@@ -67,10 +67,10 @@ public class InvitationDefaultService implements InvitationService {
     }
 
     @Override
-    public void create(Invitation invitation) {
+    public Invitation create(Invitation invitation) {
         invitation.setDateOfCreation(ZonedDateTime.now());
         invitation.setIsActive(true);
-        invitationRepository.save(invitation);
+        return invitationRepository.save(invitation);
     }
 
     @Override
@@ -79,7 +79,7 @@ public class InvitationDefaultService implements InvitationService {
     }
 
     @Override
-    public void update(Invitation invitation) {
-        invitationRepository.save(invitation);
+    public Invitation update(Invitation invitation) {
+        return invitationRepository.save(invitation);
     }
 }
@@ -1,14 +1,21 @@
 package com.keepitup.magjobbackend.jwt;
 
+import com.keepitup.magjobbackend.configuration.PermissionSnapshot;
+import com.keepitup.magjobbackend.member.entity.Member;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 @Getter
 @Setter
@@ -20,8 +27,38 @@ public class CustomJwt extends JwtAuthenticationToken {
     private String email;
 
     private Map<String, List<String>> membershipMap;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient Map<BigInteger, PermissionSnapshot> permissionSnapshots = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Boolean adminPermission;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient Map<BigInteger, Member> currentMembers = new ConcurrentHashMap<>();
+
     public CustomJwt(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
         super(jwt, authorities);
     }
 
+    public PermissionSnapshot getPermissionSnapshot(
+            BigInteger organizationId,
+            Function<BigInteger, PermissionSnapshot> resolver
+    ) {
+        return permissionSnapshots.computeIfAbsent(organizationId, resolver);
+    }
+
+    public boolean getAdminPermission(BooleanSupplier resolver) {
+        if (adminPermission == null) {
+            adminPermission = resolver.getAsBoolean();
+        }
+        return adminPermission;
+    }
+
+    public Member getCurrentMember(BigInteger organizationId, Function<BigInteger, Member> resolver) {
+        return currentMembers.computeIfAbsent(organizationId, resolver);
+    }
 }
@@ -0,0 +1,32 @@
+package com.keepitup.magjobbackend.keycloaksync.admin;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Group operations the synchronization queue applies to Keycloak. Every operation must be safe to
+ * repeat: a task is retried whenever an earlier attempt failed half way through, and operations
+ * must report failures by throwing instead of swallowing them.
+ */
+public interface KeycloakGroupAdmin {
+    /**
+     * @return ids of the default role groups created under the organization group, keyed by role name
+     */
+    Map<String, String> createOrganizationGroups(String organizationName, UUID ownerId);
+
+    String createGroup(String parentGroupPath, String groupName);
+
+    void deleteGroup(String groupPath);
+
+    void addUserToGroup(String groupPath, UUID userId);
+
+    void removeUserFromGroup(String groupPath, UUID userId);
+
+    /**
+     * @return ids of the direct subgroups keyed by group name, empty when the parent group does not exist
+     */
+    Map<String, String> findSubgroupIds(String parentGroupPath, int pageSize);
+
+    Set<UUID> findGroupMemberIds(String groupPath, int pageSize);
+}
@@ -0,0 +1,48 @@
+package com.keepitup.magjobbackend.keycloaksync.admin;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded cache of {@code groupPath -> groupId}. Group ids never change for a given group, so
+ * entries do not expire; they are evicted in least-recently-used order once the cache is full and
+ * dropped together with their subgroups when a group is deleted or turns out to be gone.
+ */
+@Component
+public class KeycloakGroupPathCache {
+    private final int maximumSize;
+    private final LinkedHashMap<String, String> entries;
+
+    @Autowired
+    public KeycloakGroupPathCache(@Value("${keepitup.magjob.keycloak-group-cache.maximum-size:10000}") int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > KeycloakGroupPathCache.this.maximumSize;
+            }
+        };
+    }
+
+    public synchronized Optional<String> get(String groupPath) {
+        return Optional.ofNullable(entries.get(groupPath));
+    }
+
+    public synchronized void put(String groupPath, String groupId) {
+        entries.put(groupPath, groupId);
+    }
+
+    public synchronized void evict(String groupPath) {
+        String subgroupPrefix = groupPath + "/";
+        entries.keySet().removeIf(path -> path.equals(groupPath) || path.startsWith(subgroupPrefix));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.keepitup.magjobbackend.keycloaksync.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * Claim of one node on the sync tasks of an organization. Only the owner applies the organization's
+ * tasks until it releases the lease or the lease expires, which keeps the changes of one organization
+ * strictly ordered across nodes.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Entity
+@Table(name = "keycloak_sync_leases")
+public class KeycloakSyncLease {
+    @Id
+    @Column(name = "organization_id")
+    private BigInteger organizationId;
+
+    @Column(name = "owner", nullable = false, length = 36)
+    private String owner;
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,9 @@
+package com.keepitup.magjobbackend.keycloaksync.entity;
+
+public enum KeycloakSyncOperation {
+    CREATE_ORGANIZATION_GROUPS,
+    CREATE_GROUP,
+    DELETE_GROUP,
+    ADD_USER_TO_GROUP,
+    REMOVE_USER_FROM_GROUP
+}
@@ -0,0 +1,76 @@
+package com.keepitup.magjobbackend.keycloaksync.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A pending Keycloak group change. The organization is referenced by id only, so queued changes
+ * outlive the organization rows they were derived from, e.g. the removal of a deleted role's group.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Entity
+@Table(name = "keycloak_sync_tasks", indexes = {
+        @Index(name = "idx_keycloak_sync_tasks_due", columnList = "dead_lettered, next_attempt_at, id"),
+        @Index(name = "idx_keycloak_sync_tasks_organization", columnList = "organization_id, id")
+})
+public class KeycloakSyncTask {
+    /**
+     * Taken from the sequence one at a time, so the queue order of an organization's changes is the
+     * order they were enqueued in across nodes.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "keycloakSyncTaskSequenceGenerator")
+    @SequenceGenerator(name = "keycloakSyncTaskSequenceGenerator", allocationSize = 1)
+    private BigInteger id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 32)
+    private KeycloakSyncOperation operation;
+
+    @NotNull
+    @Column(name = "organization_id", nullable = false)
+    private BigInteger organizationId;
+
+    @NotNull
+    @Column(name = "organization_name", nullable = false)
+    private String organizationName;
+
+    @Column(name = "role_name")
+    private String roleName;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "dead_lettered", nullable = false)
+    private boolean deadLettered;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "date_of_creation", nullable = false)
+    private LocalDateTime dateOfCreation;
+
+    public String getGroupPath() {
+        return roleName == null ? organizationName : organizationName + "/" + roleName;
+    }
+}
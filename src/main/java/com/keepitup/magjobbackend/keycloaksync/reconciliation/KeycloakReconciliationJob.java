@@ -0,0 +1,195 @@
+package com.keepitup.magjobbackend.keycloaksync.reconciliation;
+
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.keycloaksync.admin.KeycloakGroupAdmin;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.member.service.api.MemberService;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.organization.service.api.OrganizationService;
+import com.keepitup.magjobbackend.role.entity.Role;
+import com.keepitup.magjobbackend.role.service.api.RoleService;
+import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
+import com.keepitup.magjobbackend.rolemember.service.api.RoleMemberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Repairs drift between role membership in the database and group membership in Keycloak. For every
+ * organization the desired members of each role group are derived from the active members and their
+ * role assignments; every active member also belongs to the default member group. The groups and their
+ * members are read from Keycloak page by page and only the missing joins and the surplus leaves are
+ * applied, at most a configured number per organization and run, the rest following on the next run.
+ * <p>
+ * Organizations with queued Keycloak sync tasks are skipped, the queue brings them up to date first.
+ */
+@Component
+@ConditionalOnProperty(name = "keepitup.magjob.keycloak-reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class KeycloakReconciliationJob {
+    private final OrganizationService organizationService;
+    private final RoleService roleService;
+    private final MemberService memberService;
+    private final RoleMemberService roleMemberService;
+    private final KeycloakSyncService keycloakSyncService;
+    private final KeycloakGroupAdmin groupAdmin;
+    private final int pageSize;
+    private final int maxChangesPerOrganization;
+    private final Counter joins;
+    private final Counter leaves;
+    private final Counter failures;
+    private final Timer runTimer;
+
+    @Autowired
+    public KeycloakReconciliationJob(
+            OrganizationService organizationService,
+            RoleService roleService,
+            MemberService memberService,
+            RoleMemberService roleMemberService,
+            KeycloakSyncService keycloakSyncService,
+            KeycloakGroupAdmin groupAdmin,
+            MeterRegistry meterRegistry,
+            @Value("${keepitup.magjob.keycloak-reconciliation.page-size:100}") int pageSize,
+            @Value("${keepitup.magjob.keycloak-reconciliation.max-changes-per-organization:500}") int maxChangesPerOrganization
+    ) {
+        this.organizationService = organizationService;
+        this.roleService = roleService;
+        this.memberService = memberService;
+        this.roleMemberService = roleMemberService;
+        this.keycloakSyncService = keycloakSyncService;
+        this.groupAdmin = groupAdmin;
+        this.pageSize = pageSize;
+        this.maxChangesPerOrganization = maxChangesPerOrganization;
+        this.joins = Counter.builder("magjob.keycloak.reconciliation.changes")
+                .description("Group membership changes applied by the Keycloak reconciliation job")
+                .tag("change", "join")
+                .register(meterRegistry);
+        this.leaves = Counter.builder("magjob.keycloak.reconciliation.changes")
+                .description("Group membership changes applied by the Keycloak reconciliation job")
+                .tag("change", "leave")
+                .register(meterRegistry);
+        this.failures = Counter.builder("magjob.keycloak.reconciliation.failures")
+                .description("Group membership changes the Keycloak reconciliation job could not apply")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("magjob.keycloak.reconciliation.run")
+                .description("Duration of a Keycloak reconciliation run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${keepitup.magjob.keycloak-reconciliation.cron:0 0 * * * *}")
+    public void run() {
+        runTimer.record(() -> {
+            int changes = 0;
+            Pageable pageable = PageRequest.of(0, pageSize);
+            Page<Organization> organizations;
+
+            do {
+                organizations = organizationService.findAll(pageable);
+                for (Organization organization : organizations) {
+                    try {
+                        changes += reconcile(organization);
+                    } catch (RuntimeException e) {
+                        log.log(Level.WARNING, "Keycloak reconciliation of organization " + organization.getId() + " failed", e);
+                    }
+                }
+                pageable = organizations.nextPageable();
+            } while (organizations.hasNext());
+
+            if (changes > 0) {
+                log.info(String.format("Keycloak reconciliation applied %d group membership changes", changes));
+            }
+        });
+    }
+
+    /**
+     * @return number of joins and leaves applied
+     */
+    public int reconcile(Organization organization) {
+        if (keycloakSyncService.hasPending(organization.getId())) {
+            return 0;
+        }
+
+        Map<String, Set<UUID>> desiredMembers = findDesiredMembers(organization);
+        int changes = 0;
+
+        for (String groupName : groupAdmin.findSubgroupIds(organization.getName(), pageSize).keySet()) {
+            Set<UUID> desired = desiredMembers.get(groupName);
+            if (desired == null) {
+                continue;
+            }
+
+            String groupPath = organization.getName() + "/" + groupName;
+            Set<UUID> actual = groupAdmin.findGroupMemberIds(groupPath, pageSize);
+
+            for (UUID userId : desired) {
+                if (changes >= maxChangesPerOrganization) {
+                    return changes;
+                }
+                if (!actual.contains(userId) && apply(() -> groupAdmin.addUserToGroup(groupPath, userId), groupPath)) {
+                    joins.increment();
+                    changes++;
+                }
+            }
+
+            for (UUID userId : actual) {
+                if (changes >= maxChangesPerOrganization) {
+                    return changes;
+                }
+                if (!desired.contains(userId) && apply(() -> groupAdmin.removeUserFromGroup(groupPath, userId), groupPath)) {
+                    leaves.increment();
+                    changes++;
+                }
+            }
+        }
+
+        return changes;
+    }
+
+    private Map<String, Set<UUID>> findDesiredMembers(Organization organization) {
+        Map<String, Set<UUID>> desiredMembers = new HashMap<>();
+
+        for (Role role : roleService.findAllByOrganization(organization, Pageable.unpaged())) {
+            desiredMembers.put(role.getName(), new HashSet<>());
+        }
+
+        Set<UUID> memberGroup = desiredMembers.computeIfAbsent(Constants.ROLE_NAME_MEMBER, name -> new HashSet<>());
+        for (Member member : memberService.findAllByOrganizationAndIsStillMember(organization, true)) {
+            memberGroup.add(member.getUser().getId());
+        }
+
+        for (RoleMember roleMember : roleMemberService.findAllByOrganizationAndIsStillMember(organization, true)) {
+            desiredMembers.computeIfAbsent(roleMember.getRole().getName(), name -> new HashSet<>())
+                    .add(roleMember.getMember().getUser().getId());
+        }
+
+        return desiredMembers;
+    }
+
+    private boolean apply(Runnable change, String groupPath) {
+        try {
+            change.run();
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.log(Level.WARNING, "Could not reconcile membership of group " + groupPath, e);
+            return false;
+        }
+    }
+}
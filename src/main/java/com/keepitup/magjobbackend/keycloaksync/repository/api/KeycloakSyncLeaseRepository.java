@@ -0,0 +1,37 @@
+package com.keepitup.magjobbackend.keycloaksync.repository.api;
+
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+
+@Repository
+public interface KeycloakSyncLeaseRepository extends JpaRepository<KeycloakSyncLease, BigInteger> {
+    /**
+     * Takes the lease when it is free, expired or already held by the owner, in one statement.
+     *
+     * @return 1 when the owner holds the lease afterwards, 0 when another node holds it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into keycloak_sync_leases (organization_id, owner, leased_until) "
+            + "values (:organizationId, :owner, localtimestamp + make_interval(secs => :leaseSeconds)) "
+            + "on conflict (organization_id) do update set owner = excluded.owner, leased_until = excluded.leased_until "
+            + "where keycloak_sync_leases.leased_until < localtimestamp or keycloak_sync_leases.owner = excluded.owner",
+            nativeQuery = true)
+    int acquire(
+            @Param("organizationId") BigInteger organizationId,
+            @Param("owner") String owner,
+            @Param("leaseSeconds") long leaseSeconds
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from KeycloakSyncLease l where l.organizationId = :organizationId and l.owner = :owner")
+    int release(@Param("organizationId") BigInteger organizationId, @Param("owner") String owner);
+}
@@ -0,0 +1,52 @@
+package com.keepitup.magjobbackend.keycloaksync.repository.api;
+
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface KeycloakSyncTaskRepository extends JpaRepository<KeycloakSyncTask, BigInteger> {
+    /**
+     * Due tasks in id order. A task is held back while an earlier task of the same organization is
+     * waiting for its retry, which keeps the changes of one organization strictly ordered.
+     */
+    @Query("select t from KeycloakSyncTask t " +
+            "where t.deadLettered = false and t.nextAttemptAt <= :now " +
+            "and t.organizationId not in :busyOrganizationIds " +
+            "and not exists (select e.id from KeycloakSyncTask e " +
+            "where e.organizationId = t.organizationId and e.deadLettered = false " +
+            "and e.id < t.id and e.nextAttemptAt > :now) " +
+            "order by t.id asc")
+    List<KeycloakSyncTask> findDue(
+            @Param("now") LocalDateTime now,
+            @Param("busyOrganizationIds") Collection<BigInteger> busyOrganizationIds,
+            Limit limit
+    );
+
+    @Query("select t from KeycloakSyncTask t " +
+            "where t.organizationId = :organizationId and t.deadLettered = false and t.nextAttemptAt <= :now " +
+            "and not exists (select e.id from KeycloakSyncTask e " +
+            "where e.organizationId = t.organizationId and e.deadLettered = false " +
+            "and e.id < t.id and e.nextAttemptAt > :now) " +
+            "order by t.id asc")
+    List<KeycloakSyncTask> findDueByOrganization(
+            @Param("now") LocalDateTime now,
+            @Param("organizationId") BigInteger organizationId,
+            Limit limit
+    );
+
+    long countByDeadLettered(boolean deadLettered);
+
+    boolean existsByOrganizationIdAndDeadLettered(BigInteger organizationId, boolean deadLettered);
+
+    Optional<KeycloakSyncTask> findFirstByDeadLetteredOrderByIdAsc(boolean deadLettered);
+}
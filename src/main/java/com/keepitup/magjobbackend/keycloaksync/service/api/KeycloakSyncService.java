@@ -0,0 +1,45 @@
+package com.keepitup.magjobbackend.keycloaksync.service.api;
+
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface KeycloakSyncService {
+    void enqueueOrganizationGroups(Organization organization, User owner);
+
+    void enqueueGroupCreation(Organization organization, String roleName);
+
+    void enqueueGroupDeletion(Organization organization, String roleName);
+
+    void enqueueUserAddition(Organization organization, String roleName, UUID userId);
+
+    void enqueueUserRemoval(Organization organization, String roleName, UUID userId);
+
+    /**
+     * Due tasks of the organizations this node managed to lease, in id order. The caller must
+     * {@link #release(BigInteger)} every returned organization once its tasks are handled.
+     */
+    List<KeycloakSyncTask> claimDue(Collection<BigInteger> busyOrganizationIds, int limit);
+
+    void release(BigInteger organizationId);
+
+    void complete(Collection<BigInteger> ids);
+
+    /**
+     * @return true when the task ran out of attempts and was dead-lettered
+     */
+    boolean registerFailure(KeycloakSyncTask task, RuntimeException cause);
+
+    long countPending();
+
+    boolean hasPending(BigInteger organizationId);
+
+    Optional<LocalDateTime> findOldestPendingDateOfCreation();
+}
@@ -0,0 +1,196 @@
+package com.keepitup.magjobbackend.keycloaksync.service.impl;
+
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncOperation;
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import com.keepitup.magjobbackend.keycloaksync.repository.api.KeycloakSyncLeaseRepository;
+import com.keepitup.magjobbackend.keycloaksync.repository.api.KeycloakSyncTaskRepository;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.keycloaksync.worker.KeycloakSyncRequestedEvent;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class KeycloakSyncDefaultService implements KeycloakSyncService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final KeycloakSyncTaskRepository keycloakSyncTaskRepository;
+    private final KeycloakSyncLeaseRepository keycloakSyncLeaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final boolean membershipChangesEnabled;
+    private final Duration lease;
+
+    @Autowired
+    public KeycloakSyncDefaultService(
+            KeycloakSyncTaskRepository keycloakSyncTaskRepository,
+            KeycloakSyncLeaseRepository keycloakSyncLeaseRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${keepitup.magjob.keycloak-sync.max-attempts:10}") int maxAttempts,
+            @Value("${keepitup.magjob.keycloak-sync.backoff:PT1S}") Duration backoff,
+            @Value("${keepitup.magjob.keycloak-sync.max-backoff:PT5M}") Duration maxBackoff,
+            @Value("${keepitup.magjob.keycloak-sync.membership-changes-enabled:true}") boolean membershipChangesEnabled,
+            @Value("${keepitup.magjob.keycloak-sync.lease:PT5M}") Duration lease
+    ) {
+        this.keycloakSyncTaskRepository = keycloakSyncTaskRepository;
+        this.keycloakSyncLeaseRepository = keycloakSyncLeaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.membershipChangesEnabled = membershipChangesEnabled;
+        this.lease = lease;
+    }
+
+    @Override
+    public void enqueueOrganizationGroups(Organization organization, User owner) {
+        enqueue(KeycloakSyncOperation.CREATE_ORGANIZATION_GROUPS, organization, null, owner.getId());
+    }
+
+    @Override
+    public void enqueueGroupCreation(Organization organization, String roleName) {
+        enqueue(KeycloakSyncOperation.CREATE_GROUP, organization, roleName, null);
+    }
+
+    @Override
+    public void enqueueGroupDeletion(Organization organization, String roleName) {
+        enqueue(KeycloakSyncOperation.DELETE_GROUP, organization, roleName, null);
+    }
+
+    /**
+     * Membership changes may be left entirely to the Keycloak reconciliation job, in which case nothing is queued.
+     */
+    @Override
+    public void enqueueUserAddition(Organization organization, String roleName, UUID userId) {
+        if (!membershipChangesEnabled) {
+            return;
+        }
+        enqueue(KeycloakSyncOperation.ADD_USER_TO_GROUP, organization, roleName, userId);
+    }
+
+    @Override
+    public void enqueueUserRemoval(Organization organization, String roleName, UUID userId) {
+        if (!membershipChangesEnabled) {
+            return;
+        }
+        enqueue(KeycloakSyncOperation.REMOVE_USER_FROM_GROUP, organization, roleName, userId);
+    }
+
+    /**
+     * Tasks are read again once the lease is taken, another node may have applied some of them between
+     * the first read and the lease.
+     */
+    @Override
+    public List<KeycloakSyncTask> claimDue(Collection<BigInteger> busyOrganizationIds, int limit) {
+        Set<BigInteger> organizationIds = new LinkedHashSet<>();
+        for (KeycloakSyncTask task : keycloakSyncTaskRepository.findDue(LocalDateTime.now(), busyOrganizationIds, Limit.of(limit))) {
+            organizationIds.add(task.getOrganizationId());
+        }
+
+        List<KeycloakSyncTask> claimed = new ArrayList<>();
+        for (BigInteger organizationId : organizationIds) {
+            if (keycloakSyncLeaseRepository.acquire(organizationId, nodeId, lease.toSeconds()) == 0) {
+                continue;
+            }
+
+            List<KeycloakSyncTask> tasks;
+            try {
+                tasks = keycloakSyncTaskRepository.findDueByOrganization(LocalDateTime.now(), organizationId, Limit.of(limit));
+            } catch (RuntimeException e) {
+                release(organizationId);
+                throw e;
+            }
+
+            // The worker only releases organizations it got tasks for, e.g. none are left once another node applied them
+            if (tasks.isEmpty()) {
+                release(organizationId);
+            }
+            claimed.addAll(tasks);
+        }
+
+        return claimed;
+    }
+
+    @Override
+    public void release(BigInteger organizationId) {
+        keycloakSyncLeaseRepository.release(organizationId, nodeId);
+    }
+
+    @Override
+    public void complete(Collection<BigInteger> ids) {
+        keycloakSyncTaskRepository.deleteAllByIdInBatch(ids);
+    }
+
+    @Override
+    public boolean registerFailure(KeycloakSyncTask task, RuntimeException cause) {
+        int attempts = task.getAttempts() + 1;
+        String error = String.valueOf(cause);
+
+        task.setAttempts(attempts);
+        task.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (attempts >= maxAttempts) {
+            task.setDeadLettered(true);
+        } else {
+            task.setNextAttemptAt(LocalDateTime.now().plus(backoffAfter(attempts)));
+        }
+
+        keycloakSyncTaskRepository.save(task);
+        return task.isDeadLettered();
+    }
+
+    @Override
+    public long countPending() {
+        return keycloakSyncTaskRepository.countByDeadLettered(false);
+    }
+
+    @Override
+    public boolean hasPending(BigInteger organizationId) {
+        return keycloakSyncTaskRepository.existsByOrganizationIdAndDeadLettered(organizationId, false);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPendingDateOfCreation() {
+        return keycloakSyncTaskRepository.findFirstByDeadLetteredOrderByIdAsc(false)
+                .map(KeycloakSyncTask::getDateOfCreation);
+    }
+
+    private Duration backoffAfter(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void enqueue(KeycloakSyncOperation operation, Organization organization, String roleName, UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        keycloakSyncTaskRepository.save(KeycloakSyncTask.builder()
+                .operation(operation)
+                .organizationId(organization.getId())
+                .organizationName(organization.getName())
+                .roleName(roleName)
+                .userId(userId)
+                .nextAttemptAt(now)
+                .dateOfCreation(now)
+                .build());
+
+        eventPublisher.publishEvent(new KeycloakSyncRequestedEvent());
+    }
+}
@@ -0,0 +1,8 @@
+package com.keepitup.magjobbackend.keycloaksync.worker;
+
+/**
+ * Published whenever a Keycloak sync task is queued. The task rows are the queue, the event only
+ * wakes the {@link KeycloakSyncWorker} once the queuing transaction has committed.
+ */
+public class KeycloakSyncRequestedEvent {
+}
@@ -0,0 +1,239 @@
+package com.keepitup.magjobbackend.keycloaksync.worker;
+
+import com.keepitup.magjobbackend.configuration.AsyncConfig;
+import com.keepitup.magjobbackend.keycloaksync.admin.KeycloakGroupAdmin;
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.role.service.api.RoleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * Applies queued group changes to Keycloak. Each dispatch reads a batch of due tasks and hands the
+ * tasks of every organization to the worker pool as one unit, so organizations are synchronized in
+ * parallel while the changes of a single organization are applied strictly in queue order. An
+ * organization with a unit in flight is left out of further dispatches until the unit finishes.
+ * <p>
+ * A failed task stops its unit and waits for its backoff, holding back the later tasks of the same
+ * organization; a task that runs out of attempts is dead-lettered and no longer blocks anything.
+ * Applied tasks are removed in one statement per unit.
+ * <p>
+ * Several nodes may run the worker; an organization's tasks are only read once this node holds its
+ * lease, so every unit is applied by exactly one node.
+ */
+@Component
+@Log
+public class KeycloakSyncWorker {
+    private final KeycloakSyncService syncService;
+    private final KeycloakGroupAdmin groupAdmin;
+    private final RoleService roleService;
+    private final Executor executor;
+    private final int batchSize;
+    private final Set<BigInteger> busyOrganizationIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter applied;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer applyTimer;
+
+    @Autowired
+    public KeycloakSyncWorker(
+            KeycloakSyncService syncService,
+            KeycloakGroupAdmin groupAdmin,
+            RoleService roleService,
+            @Qualifier(AsyncConfig.KEYCLOAK_SYNC_EXECUTOR) Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${keepitup.magjob.keycloak-sync.batch-size:100}") int batchSize
+    ) {
+        this.syncService = syncService;
+        this.groupAdmin = groupAdmin;
+        this.roleService = roleService;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.applied = Counter.builder("magjob.keycloak.sync.tasks")
+                .description("Keycloak sync tasks by outcome")
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.retried = Counter.builder("magjob.keycloak.sync.tasks")
+                .description("Keycloak sync tasks by outcome")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("magjob.keycloak.sync.tasks")
+                .description("Keycloak sync tasks by outcome")
+                .tag("outcome", "dead-lettered")
+                .register(meterRegistry);
+        this.applyTimer = Timer.builder("magjob.keycloak.sync.apply")
+                .description("Duration of a single Keycloak sync task")
+                .register(meterRegistry);
+        Gauge.builder("magjob.keycloak.sync.pending", pending, AtomicLong::get)
+                .description("Keycloak sync tasks waiting to be applied")
+                .register(meterRegistry);
+        Gauge.builder("magjob.keycloak.sync.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest Keycloak sync task waiting to be applied")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSyncRequested(KeycloakSyncRequestedEvent event) {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${keepitup.magjob.keycloak-sync.poll-interval:PT5S}")
+    public void poll() {
+        drain();
+        refreshBacklogMetrics();
+    }
+
+    public void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainRequested.set(false);
+            log.fine("Keycloak sync executor saturated, leaving the queue to the next poll");
+        }
+    }
+
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+
+        try {
+            do {
+                drainRequested.set(false);
+                dispatchBatch();
+            } while (drainRequested.get());
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Keycloak sync drain failed", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void dispatchBatch() {
+        // Snapshot before reading, so a unit finishing in between can never have its applied tasks read again
+        List<BigInteger> busy = List.copyOf(busyOrganizationIds);
+        Map<BigInteger, List<KeycloakSyncTask>> tasksByOrganization = new LinkedHashMap<>();
+
+        for (KeycloakSyncTask task : syncService.claimDue(busy, batchSize)) {
+            tasksByOrganization.computeIfAbsent(task.getOrganizationId(), id -> new ArrayList<>()).add(task);
+        }
+
+        tasksByOrganization.forEach((organizationId, tasks) -> {
+            if (!busyOrganizationIds.add(organizationId)) {
+                return;
+            }
+
+            try {
+                executor.execute(() -> applyInOrder(organizationId, tasks));
+            } catch (RejectedExecutionException e) {
+                busyOrganizationIds.remove(organizationId);
+                release(organizationId);
+            }
+        });
+    }
+
+    private void applyInOrder(BigInteger organizationId, List<KeycloakSyncTask> tasks) {
+        List<BigInteger> done = new ArrayList<>(tasks.size());
+
+        try {
+            for (KeycloakSyncTask task : tasks) {
+                try {
+                    applyTimer.record(() -> apply(task));
+                    done.add(task.getId());
+                } catch (RuntimeException e) {
+                    if (syncService.registerFailure(task, e)) {
+                        deadLettered.increment();
+                        log.log(Level.WARNING, "Dead-lettered Keycloak sync task " + task.getId(), e);
+                    } else {
+                        retried.increment();
+                        log.log(Level.INFO, "Keycloak sync task " + task.getId() + " failed, retrying later", e);
+                        break;
+                    }
+                }
+            }
+
+            if (!done.isEmpty()) {
+                syncService.complete(done);
+                applied.increment(done.size());
+            }
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Keycloak sync for organization " + organizationId + " failed", e);
+        } finally {
+            busyOrganizationIds.remove(organizationId);
+            release(organizationId);
+        }
+
+        if (!done.isEmpty()) {
+            requestDrain();
+        }
+    }
+
+    private void release(BigInteger organizationId) {
+        try {
+            syncService.release(organizationId);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Could not release Keycloak sync lease of organization " + organizationId, e);
+        }
+    }
+
+    private void apply(KeycloakSyncTask task) {
+        switch (task.getOperation()) {
+            case CREATE_ORGANIZATION_GROUPS -> roleService.updateExternalIds(
+                    task.getOrganizationId(),
+                    groupAdmin.createOrganizationGroups(task.getOrganizationName(), task.getUserId())
+            );
+            case CREATE_GROUP -> roleService.updateExternalIds(
+                    task.getOrganizationId(),
+                    Map.of(task.getRoleName(), groupAdmin.createGroup(task.getOrganizationName(), task.getRoleName()))
+            );
+            case DELETE_GROUP -> groupAdmin.deleteGroup(task.getGroupPath());
+            case ADD_USER_TO_GROUP -> groupAdmin.addUserToGroup(task.getGroupPath(), task.getUserId());
+            case REMOVE_USER_FROM_GROUP -> groupAdmin.removeUserFromGroup(task.getGroupPath(), task.getUserId());
+        }
+    }
+
+    private void refreshBacklogMetrics() {
+        try {
+            pending.set(syncService.countPending());
+            lagSeconds.set(syncService.findOldestPendingDateOfCreation()
+                    .map(created -> Math.max(0, Duration.between(created, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Could not refresh Keycloak sync backlog metrics", e);
+        }
+    }
+}
@@ -17,8 +17,8 @@ import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.organization.service.impl.OrganizationDefaultService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -59,8 +59,8 @@ public class MaterialDefaultController implements MaterialController {
     @Override
     public GetMaterialsResponse getMaterials(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = materialService.findAll().size();
-        return materialsToResponseFunction.apply(materialService.findAll(pageRequest), count);
+        Page<Material> materials = materialService.findAll(pageRequest);
+        return materialsToResponseFunction.apply(materials);
     }
 
     @Override
@@ -78,45 +78,44 @@ public class MaterialDefaultController implements MaterialController {
         Organization organization = organizationOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Integer count = materialService.findAllByOrganization(organization, Pageable.unpaged()).getNumberOfElements();
+        Page<Material> materials = materialService.findAllByOrganization(organization, pageRequest);
 
-        return materialsToResponseFunction.apply(materialService.findAllByOrganization(organization, pageRequest), count);
+        return materialsToResponseFunction.apply(materials);
     }
 
     @Override
     public GetMaterialResponse createMaterial(PostMaterialRequest postMaterialRequest) {
-        materialService.create(requestToMaterialFunction.apply(postMaterialRequest));
+        Organization organization = organizationService.find(postMaterialRequest.getOrganization()).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
 
-        Optional<Organization> organizationOptional = organizationService.find(postMaterialRequest.getOrganization());
+        Material material = requestToMaterialFunction.apply(postMaterialRequest);
+        material.setOrganization(organization);
 
-        organizationOptional.ifPresent(organization ->
-                notificationService.create(Notification.builder()
-                        .organization(organization)
-                        .content("New material added in organization " + organization.getName())
-                        .build()));
+        Material createdMaterial = materialService.create(material);
 
-        return materialService.findByTitle(postMaterialRequest.getTitle())
-                .map(materialToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        notificationService.create(Notification.builder()
+                .organization(organization)
+                .content("New material added in organization " + organization.getName())
+                .build());
+
+        return materialToResponseFunction.apply(createdMaterial);
     }
 
     @Override
     public GetMaterialResponse updateMaterial(BigInteger id, PatchMaterialRequest patchMaterialRequest) {
-        materialService.find(id)
-                .ifPresentOrElse(
-                        material -> {
-                            materialService.update(updateMaterialWithRequestFunction.apply(material, patchMaterialRequest));
+        Material material = materialService.find(id).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
 
-                            notificationService.create(Notification.builder()
-                                    .organization(material.getOrganization())
-                                    .content("Material updated in organization " + material.getOrganization().getName())
-                                    .build());
-                        },
-                        () -> {
-                            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-                        }
-                );
-        return getMaterial(id);
+        Material updatedMaterial = materialService.update(updateMaterialWithRequestFunction.apply(material, patchMaterialRequest));
+
+        notificationService.create(Notification.builder()
+                .organization(material.getOrganization())
+                .content("Material updated in organization " + material.getOrganization().getName())
+                .build());
+
+        return materialToResponseFunction.apply(updatedMaterial);
     }
 
     @Override
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.material.entity.Material;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class MaterialsToResponseFunction implements BiFunction<Page<Material>, Integer, GetMaterialsResponse> {
+public class MaterialsToResponseFunction implements Function<Page<Material>, GetMaterialsResponse> {
     @Override
-    public GetMaterialsResponse apply(Page<Material> materials, Integer count) {
+    public GetMaterialsResponse apply(Page<Material> materials) {
         return GetMaterialsResponse.builder()
                 .materials(materials.stream()
                         .map(material -> GetMaterialsResponse.Material.builder()
@@ -20,7 +20,7 @@ public class MaterialsToResponseFunction implements BiFunction<Page<Material>, I
                                 .organizationId(material.getOrganization().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(materials.getTotalElements()))
                 .build();
     }
 }
@@ -29,9 +29,9 @@ public interface MaterialService {
 
     Page<Material> findAllByOrganization(Organization organization, Pageable pageable);
 
-    void create(Material material);
+    Material create(Material material);
 
     void delete(BigInteger id);
 
-    void update(Material material);
+    Material update(Material material);
 }
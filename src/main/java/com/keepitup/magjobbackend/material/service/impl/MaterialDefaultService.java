@@ -69,8 +69,8 @@ public class MaterialDefaultService implements MaterialService {
     }
 
     @Override
-    public void create(Material material) {
-        materialRepository.save(material);
+    public Material create(Material material) {
+        return materialRepository.save(material);
     }
 
     @Override
@@ -79,7 +79,7 @@ public class MaterialDefaultService implements MaterialService {
     }
 
     @Override
-    public void update(Material material) {
-        materialRepository.save(material);
+    public Material update(Material material) {
+        return materialRepository.save(material);
     }
 }
@@ -8,6 +8,7 @@ import com.keepitup.magjobbackend.materialreceiver.dto.GetMaterialReceiverRespon
 import com.keepitup.magjobbackend.materialreceiver.dto.GetMaterialReceiversResponse;
 import com.keepitup.magjobbackend.materialreceiver.dto.PatchMaterialReceiverRequest;
 import com.keepitup.magjobbackend.materialreceiver.dto.PostMaterialReceiverRequest;
+import com.keepitup.magjobbackend.materialreceiver.entity.MaterialReceiver;
 import com.keepitup.magjobbackend.materialreceiver.function.MaterialReceiverToResponseFunction;
 import com.keepitup.magjobbackend.materialreceiver.function.MaterialReceiversToResponseFunction;
 import com.keepitup.magjobbackend.materialreceiver.function.RequestToMaterialReceiverFunction;
@@ -18,8 +19,8 @@ import com.keepitup.magjobbackend.member.service.impl.MemberDefaultService;
 import com.keepitup.magjobbackend.notification.entity.Notification;
 import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
 import lombok.extern.java.Log;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -62,8 +63,8 @@ public class MaterialReceiverDefaultController implements MaterialReceiverContro
     @Override
     public GetMaterialReceiversResponse getMaterialReceivers(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = materialReceiverService.findAll().size();
-        return materialReceiversToResponseFunction.apply(materialReceiverService.findAll(pageRequest), count);
+        Page<MaterialReceiver> materialReceivers = materialReceiverService.findAll(pageRequest);
+        return materialReceiversToResponseFunction.apply(materialReceivers);
     }
 
     @Override
@@ -81,9 +82,9 @@ public class MaterialReceiverDefaultController implements MaterialReceiverContro
         Material material = materialOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Integer count = materialReceiverService.findAllByMaterial(material, Pageable.unpaged()).getNumberOfElements();
+        Page<MaterialReceiver> materialReceivers = materialReceiverService.findAllByMaterial(material, pageRequest);
 
-        return materialReceiversToResponseFunction.apply(materialReceiverService.findAllByMaterial(material, pageRequest), count);
+        return materialReceiversToResponseFunction.apply(materialReceivers);
     }
 
     @Override
@@ -94,39 +95,36 @@ public class MaterialReceiverDefaultController implements MaterialReceiverContro
         Member member = memberOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        Integer count = materialReceiverService.findAllByMember(member, Pageable.unpaged()).getNumberOfElements();
+        Page<MaterialReceiver> materialReceivers = materialReceiverService.findAllByMember(member, pageRequest);
 
-        return materialReceiversToResponseFunction.apply(materialReceiverService.findAllByMember(member, pageRequest), count);
+        return materialReceiversToResponseFunction.apply(materialReceivers);
     }
 
     @Override
     public GetMaterialReceiverResponse createMaterialReceiver(PostMaterialReceiverRequest postMaterialReceiverRequest) {
-        materialReceiverService.create(requestToMaterialReceiverFunction.apply(postMaterialReceiverRequest));
-
         Member member = memberService.find(postMaterialReceiverRequest.getMember()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        Material material = materialService.find(postMaterialReceiverRequest.getMaterial()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        MaterialReceiver materialReceiver = requestToMaterialReceiverFunction.apply(postMaterialReceiverRequest);
+        materialReceiver.setMember(member);
+        materialReceiver.setMaterial(material);
+
+        MaterialReceiver createdMaterialReceiver = materialReceiverService.create(materialReceiver);
 
         notificationService.create(Notification.builder()
                 .member(member)
                 .content(String.format(Constants.NOTIFICATION_MATERIAL_RECEIVER_CREATION_TEMPLATE, member.getOrganization().getName()))
                 .build());
 
-        return materialReceiverService.findByMemberAndMaterial(
-                        memberService.find(postMaterialReceiverRequest.getMember()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)),
-                        materialService.find(postMaterialReceiverRequest.getMaterial()).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)))
-                .map(materialReceiverToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return materialReceiverToResponseFunction.apply(createdMaterialReceiver);
     }
 
     @Override
     public GetMaterialReceiverResponse updateMaterialReceiver(BigInteger id, PatchMaterialReceiverRequest patchMaterialReceiverRequest) {
-        materialReceiverService.find(id)
-                .ifPresentOrElse(
-                        materialReceiver -> materialReceiverService.update(updateMaterialReceiverWithRequestFunction.apply(materialReceiver, patchMaterialReceiverRequest)),
-                        () -> {
-                            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-                        }
-                );
-        return getMaterialReceiver(id);
+        return materialReceiverService.find(id)
+                .map(materialReceiver -> materialReceiverService.update(updateMaterialReceiverWithRequestFunction.apply(materialReceiver, patchMaterialReceiverRequest)))
+                .map(materialReceiverToResponseFunction)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     @Override
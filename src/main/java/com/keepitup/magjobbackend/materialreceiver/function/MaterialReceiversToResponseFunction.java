@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.materialreceiver.entity.MaterialReceiver;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class MaterialReceiversToResponseFunction implements BiFunction<Page<MaterialReceiver>, Integer, GetMaterialReceiversResponse> {
+public class MaterialReceiversToResponseFunction implements Function<Page<MaterialReceiver>, GetMaterialReceiversResponse> {
     @Override
-    public GetMaterialReceiversResponse apply(Page<MaterialReceiver> materialReceivers, Integer count) {
+    public GetMaterialReceiversResponse apply(Page<MaterialReceiver> materialReceivers) {
         return GetMaterialReceiversResponse.builder()
                 .materialReceivers(materialReceivers.stream()
                         .map(materialReceiver -> GetMaterialReceiversResponse.MaterialReceiver.builder()
@@ -19,7 +19,7 @@ public class MaterialReceiversToResponseFunction implements BiFunction<Page<Mate
                                 .materialId(materialReceiver.getMaterial().getId())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(materialReceivers.getTotalElements()))
                 .build();
     }
 }
@@ -23,9 +23,9 @@ public interface MaterialReceiverService {
 
     Optional<MaterialReceiver> findByMemberAndMaterial(Member member, Material material);
 
-    void create(MaterialReceiver materialReceiver);
+    MaterialReceiver create(MaterialReceiver materialReceiver);
 
     void delete(BigInteger id);
 
-    void update(MaterialReceiver materialReceiver);
+    MaterialReceiver update(MaterialReceiver materialReceiver);
 }
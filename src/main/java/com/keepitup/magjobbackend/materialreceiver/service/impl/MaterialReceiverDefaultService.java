@@ -54,8 +54,8 @@ public class MaterialReceiverDefaultService implements MaterialReceiverService {
     }
 
     @Override
-    public void create(MaterialReceiver materialReceiver) {
-        materialReceiverRepository.save(materialReceiver);
+    public MaterialReceiver create(MaterialReceiver materialReceiver) {
+        return materialReceiverRepository.save(materialReceiver);
     }
 
     @Override
@@ -64,7 +64,7 @@ public class MaterialReceiverDefaultService implements MaterialReceiverService {
     }
 
     @Override
-    public void update(MaterialReceiver materialReceiver) {
-        materialReceiverRepository.save(materialReceiver);
+    public MaterialReceiver update(MaterialReceiver materialReceiver) {
+        return materialReceiverRepository.save(materialReceiver);
     }
 }
@@ -1,8 +1,10 @@
 package com.keepitup.magjobbackend.member.controller.impl;
 
+import com.keepitup.magjobbackend.chatmember.cache.ChatMembershipCache;
+import com.keepitup.magjobbackend.chatmember.service.api.ChatMemberService;
 import com.keepitup.magjobbackend.configuration.Constants;
-import com.keepitup.magjobbackend.configuration.KeycloakController;
 import com.keepitup.magjobbackend.configuration.SecurityService;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
 import com.keepitup.magjobbackend.member.controller.api.MemberController;
 import com.keepitup.magjobbackend.member.dto.*;
 import com.keepitup.magjobbackend.member.entity.Member;
@@ -38,8 +40,10 @@ public class MemberDefaultController implements MemberController {
     private final MemberToResponseFunction memberToResponse;
     private final RequestToMemberFunction requestToMember;
     private final UpdateMemberWithRequestFunction updateMemberWithRequest;
-    private final KeycloakController keycloakController;
+    private final KeycloakSyncService keycloakSyncService;
     private final SecurityService securityService;
+    private final ChatMemberService chatMemberService;
+    private final ChatMembershipCache chatMembershipCache;
 
     @Autowired
     public MemberDefaultController(
@@ -52,8 +56,10 @@ public class MemberDefaultController implements MemberController {
             MemberToResponseFunction memberToResponse,
             RequestToMemberFunction requestToMember,
             UpdateMemberWithRequestFunction updateMemberWithRequest,
-            KeycloakController keycloakController,
-            SecurityService securityService
+            KeycloakSyncService keycloakSyncService,
+            SecurityService securityService,
+            ChatMemberService chatMemberService,
+            ChatMembershipCache chatMembershipCache
     ) {
         this.service = service;
         this.userService = userService;
@@ -64,8 +70,10 @@ public class MemberDefaultController implements MemberController {
         this.memberToResponse = memberToResponse;
         this.requestToMember = requestToMember;
         this.updateMemberWithRequest = updateMemberWithRequest;
-        this.keycloakController = keycloakController;
+        this.keycloakSyncService = keycloakSyncService;
         this.securityService = securityService;
+        this.chatMemberService = chatMemberService;
+        this.chatMembershipCache = chatMembershipCache;
     }
 
     @Override
@@ -75,8 +83,8 @@ public class MemberDefaultController implements MemberController {
         }
   
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = service.findAllByIsStillMember(true, Pageable.unpaged()).getNumberOfElements();
-        return membersToResponse.apply(service.findAllByIsStillMember(true, pageRequest), count);
+        Page<Member> members = service.findAllByIsStillMember(true, pageRequest);
+        return membersToResponse.apply(members);
     }
 
     @Override
@@ -92,9 +100,9 @@ public class MemberDefaultController implements MemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = service.findAllByOrganizationAndIsStillMember(organization, true, Pageable.unpaged()).getNumberOfElements();
+        Page<Member> members = service.findAllByOrganizationAndIsStillMember(organization, true, pageRequest);
 
-        return membersByOrganizationToResponse.apply(service.findAllByOrganizationAndIsStillMember(organization, true, pageRequest), count);
+        return membersByOrganizationToResponse.apply(members);
     }
 
     @Override
@@ -125,18 +133,21 @@ public class MemberDefaultController implements MemberController {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN);
             }
 
-            service.create(requestToMember.apply(postMemberRequest));
+            Member member = requestToMember.apply(postMemberRequest);
+            member.setUser(user.get());
+            member.setOrganization(organization.get());
 
-            keycloakController.addUserToKeycloakGroup(organization.get().getName(), user.get().getId());
+            Member createdMember = service.create(member);
+
+            keycloakSyncService.enqueueUserAddition(organization.get(), Constants.ROLE_NAME_MEMBER, user.get().getId());
 
             notificationService.create(Notification.builder()
                     .user(user.get())
                     .content(String.format(Constants.NOTIFICATION_MEMBER_CREATION_TEMPLATE, organization.get().getName()))
                     .build());
+
+            return memberToResponse.apply(createdMember);
         }
-        return service.findByUserAndOrganization(user.get(), organization.get())
-                .map(memberToResponse)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     @Override
@@ -149,8 +160,9 @@ public class MemberDefaultController implements MemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        keycloakController.removeUserFromKeycloakGroup(
-                memberToDelete.getOrganization().getName(),
+        keycloakSyncService.enqueueUserRemoval(
+                memberToDelete.getOrganization(),
+                Constants.ROLE_NAME_MEMBER,
                 memberToDelete.getUser().getId()
         );
 
@@ -160,6 +172,9 @@ public class MemberDefaultController implements MemberController {
                 .build());
 
         service.delete(id);
+
+        chatMemberService.findAllChatsByMember(id, Pageable.unpaged())
+                .ifPresent(chats -> chats.forEach(chat -> chatMembershipCache.invalidateChat(chat.getId())));
     }
 
     @Override
@@ -172,14 +187,14 @@ public class MemberDefaultController implements MemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        service.update(updateMemberWithRequest.apply(member, patchMemberRequest));
+        Member updatedMember = service.update(updateMemberWithRequest.apply(member, patchMemberRequest));
 
         notificationService.create(Notification.builder()
                 .member(member)
                 .content(String.format(Constants.NOTIFICATION_MEMBER_UPDATE_TEMPLATE, member.getOrganization().getName()))
                 .build());
 
-        return getMember(id);
+        return memberToResponse.apply(updatedMember);
     }
 }
 
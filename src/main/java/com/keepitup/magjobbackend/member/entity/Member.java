@@ -24,7 +24,9 @@ import java.util.List;
 @ToString
 @EqualsAndHashCode
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        @Index(name = "idx_members_user_organization_still_member", columnList = "user_id, organization_id, is_still_member")
+})
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memberSequenceGenerator")
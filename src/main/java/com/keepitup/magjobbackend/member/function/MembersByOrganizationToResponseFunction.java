@@ -5,13 +5,13 @@ import com.keepitup.magjobbackend.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
-public class MembersByOrganizationToResponseFunction implements BiFunction<Page<Member>, Integer, GetMembersByOrganizationResponse> {
+public class MembersByOrganizationToResponseFunction implements Function<Page<Member>, GetMembersByOrganizationResponse> {
     @Override
-    public GetMembersByOrganizationResponse apply(Page<Member> entities, Integer count) {
+    public GetMembersByOrganizationResponse apply(Page<Member> entities) {
         return GetMembersByOrganizationResponse.builder()
                 .members(entities.stream()
                         .map(member -> GetMembersByOrganizationResponse.Member.builder()
@@ -28,7 +28,7 @@ public class MembersByOrganizationToResponseFunction implements BiFunction<Page<
                                         .collect(Collectors.toList()))
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class MembersToResponseFunction implements BiFunction<Page<Member>, Integer, GetMembersResponse> {
+public class MembersToResponseFunction implements Function<Page<Member>, GetMembersResponse> {
     @Override
-    public GetMembersResponse apply(Page<Member> entities, Integer count) {
+    public GetMembersResponse apply(Page<Member> entities) {
         return GetMembersResponse.builder()
                 .members(entities.stream()
                         .map(member -> GetMembersResponse.Member.builder()
@@ -21,7 +21,7 @@ public class MembersToResponseFunction implements BiFunction<Page<Member>, Integ
                                 .lastName(member.getUser().getLastname())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
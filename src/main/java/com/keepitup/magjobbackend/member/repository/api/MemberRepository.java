@@ -5,11 +5,14 @@ import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, BigInteger> {
@@ -18,6 +21,9 @@ public interface MemberRepository extends JpaRepository<Member, BigInteger> {
     Page<Member> findAllByPseudonym(String pseudonym, Pageable pageable);
     Page<Member> findAllByOrganization(Organization organization, Pageable pageable);
     Page<Member> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
+    List<Member> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember);
     Page<Member> findAllByUser(User user, Pageable pageable);
     Optional<Member> findByUserAndOrganization(User user, Organization organization);
+    Optional<Member> findByUser_IdAndOrganization_IdAndIsStillMember(UUID userId, BigInteger organizationId, Boolean isStillMember);
 }
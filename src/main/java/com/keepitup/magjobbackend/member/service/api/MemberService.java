@@ -7,6 +7,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +17,8 @@ public interface MemberService {
 
     Optional<Member> find(BigInteger id);
 
+    List<Member> findAllByIds(Collection<BigInteger> ids);
+
     Optional<Member> findByIdAndIsStillMember(BigInteger id, Boolean isStillMember);
 
     Page<Member> findAllByPseudonym(String pseudonym, Pageable pageable);
@@ -23,6 +27,8 @@ public interface MemberService {
 
     Page<Member> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember, Pageable pageable);
 
+    List<Member> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember);
+
     Boolean checkIfStillMember(BigInteger id);
 
     Optional<Page<User>> findAllUsersByOrganization(BigInteger organizationId, Pageable pageable);
@@ -31,9 +37,11 @@ public interface MemberService {
 
     Optional<Member> findByUserAndOrganization(User user, Organization organization);
 
-    void create(Member member);
+    Optional<Member> findActiveByUserIdAndOrganizationId(UUID userId, BigInteger organizationId);
+
+    Member create(Member member);
 
     void delete(BigInteger id);
 
-    void update(Member member);
+    Member update(Member member);
 }
@@ -13,6 +13,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -40,6 +42,11 @@ public class MemberDefaultService implements MemberService {
         return memberRepository.findById(id);
     }
 
+    @Override
+    public List<Member> findAllByIds(Collection<BigInteger> ids) {
+        return memberRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Member> findByIdAndIsStillMember(BigInteger id, Boolean isStillMember) {
         return memberRepository.findByIdAndIsStillMember(id, isStillMember);
@@ -60,6 +67,11 @@ public class MemberDefaultService implements MemberService {
         return memberRepository.findAllByOrganizationAndIsStillMember(organization, isStillMember, pageable);
     }
 
+    @Override
+    public List<Member> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember) {
+        return memberRepository.findAllByOrganizationAndIsStillMember(organization, isStillMember);
+    }
+
     @Override
     public Boolean checkIfStillMember(BigInteger id) {
         Optional<Member> member = memberRepository.findById(id);
@@ -86,9 +98,14 @@ public class MemberDefaultService implements MemberService {
     }
 
     @Override
-    public void create(Member member) {
+    public Optional<Member> findActiveByUserIdAndOrganizationId(UUID userId, BigInteger organizationId) {
+        return memberRepository.findByUser_IdAndOrganization_IdAndIsStillMember(userId, organizationId, true);
+    }
+
+    @Override
+    public Member create(Member member) {
         member.setIsStillMember(true);
-        memberRepository.save(member);
+        return memberRepository.save(member);
     }
 
     @Override
@@ -97,7 +114,7 @@ public class MemberDefaultService implements MemberService {
     }
 
     @Override
-    public void update(Member member) {
-        memberRepository.save(member);
+    public Member update(Member member) {
+        return memberRepository.save(member);
     }
 }
@@ -1,8 +1,14 @@
 package com.keepitup.magjobbackend.notification.controller.api;
 
 import com.keepitup.magjobbackend.configuration.PageConfig;
+import com.keepitup.magjobbackend.notification.dto.GetAffectedNotificationsResponse;
+import com.keepitup.magjobbackend.notification.dto.GetNotificationReadWatermarkResponse;
 import com.keepitup.magjobbackend.notification.dto.GetNotificationResponse;
+import com.keepitup.magjobbackend.notification.dto.GetNotificationUnreadCountResponse;
 import com.keepitup.magjobbackend.notification.dto.GetNotificationsResponse;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationReadWatermarkRequest;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationsRequest;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationsSeenUpToRequest;
 import com.keepitup.magjobbackend.notification.dto.PostNotificationRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Notification Controller")
@@ -279,6 +286,201 @@ public interface NotificationController {
     );
 
 
+    @Operation(summary = "Get Notification Inbox By Organization")
+    @GetMapping("api/organizations/{organizationId}/notifications/inbox")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationsResponse getNotificationInboxByOrganization(
+            @Parameter(
+                    name = "cursor",
+                    description = "nextCursor of the previous call, omit for the newest notifications"
+            )
+            @RequestParam(required = false)
+            String cursor,
+            @Parameter(
+                    name = "since",
+                    description = "sinceCursor of a previous call, returns only notifications created later; "
+                            + "one still being created when that call ran can be missed"
+            )
+            @RequestParam(required = false)
+            String since,
+            @Parameter(
+                    name = "limit",
+                    description = "Number of notifications to retrieve"
+            )
+            @RequestParam(defaultValue = "#{pageConfig.size}")
+            int limit,
+            @Parameter(
+                    name = "seen",
+                    description = "Notification seen value, omit for both"
+            )
+            @RequestParam(required = false)
+            Boolean seen,
+            @Parameter(
+                    name = "organizationId",
+                    description = "Organization id value",
+                    required = true
+            )
+            @PathVariable("organizationId")
+            BigInteger organizationId
+    );
+
+    @Operation(summary = "Get Notification Inbox By Member")
+    @GetMapping("api/members/{memberId}/notifications/inbox")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationsResponse getNotificationInboxByMember(
+            @Parameter(
+                    name = "cursor",
+                    description = "nextCursor of the previous call, omit for the newest notifications"
+            )
+            @RequestParam(required = false)
+            String cursor,
+            @Parameter(
+                    name = "since",
+                    description = "sinceCursor of a previous call, returns only notifications created later; "
+                            + "one still being created when that call ran can be missed"
+            )
+            @RequestParam(required = false)
+            String since,
+            @Parameter(
+                    name = "limit",
+                    description = "Number of notifications to retrieve"
+            )
+            @RequestParam(defaultValue = "#{pageConfig.size}")
+            int limit,
+            @Parameter(
+                    name = "seen",
+                    description = "Notification seen value, omit for both"
+            )
+            @RequestParam(required = false)
+            Boolean seen,
+            @Parameter(
+                    name = "memberId",
+                    description = "Member id value",
+                    required = true
+            )
+            @PathVariable("memberId")
+            BigInteger memberId
+    );
+
+    @Operation(summary = "Get Notification Inbox By User")
+    @GetMapping("api/users/{userId}/notifications/inbox")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationsResponse getNotificationInboxByUser(
+            @Parameter(
+                    name = "cursor",
+                    description = "nextCursor of the previous call, omit for the newest notifications"
+            )
+            @RequestParam(required = false)
+            String cursor,
+            @Parameter(
+                    name = "since",
+                    description = "sinceCursor of a previous call, returns only notifications created later; "
+                            + "one still being created when that call ran can be missed"
+            )
+            @RequestParam(required = false)
+            String since,
+            @Parameter(
+                    name = "limit",
+                    description = "Number of notifications to retrieve"
+            )
+            @RequestParam(defaultValue = "#{pageConfig.size}")
+            int limit,
+            @Parameter(
+                    name = "seen",
+                    description = "Notification seen value, omit for both"
+            )
+            @RequestParam(required = false)
+            Boolean seen,
+            @Parameter(
+                    name = "userId",
+                    description = "User id value",
+                    required = true
+            )
+            @PathVariable("userId")
+            UUID userId
+    );
+
+    @Operation(summary = "Get Unread Notification Count By Organization")
+    @GetMapping("api/organizations/{organizationId}/notifications/unread-count")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationUnreadCountResponse getNotificationUnreadCountByOrganization(
+            @Parameter(
+                    name = "organizationId",
+                    description = "Organization id value",
+                    required = true
+            )
+            @PathVariable("organizationId")
+            BigInteger organizationId
+    );
+
+    @Operation(summary = "Get Unread Notification Count By Member")
+    @GetMapping("api/members/{memberId}/notifications/unread-count")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationUnreadCountResponse getNotificationUnreadCountByMember(
+            @Parameter(
+                    name = "memberId",
+                    description = "Member id value",
+                    required = true
+            )
+            @PathVariable("memberId")
+            BigInteger memberId
+    );
+
+    @Operation(summary = "Get Unread Notification Count By User")
+    @GetMapping("api/users/{userId}/notifications/unread-count")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationUnreadCountResponse getNotificationUnreadCountByUser(
+            @Parameter(
+                    name = "userId",
+                    description = "User id value",
+                    required = true
+            )
+            @PathVariable("userId")
+            UUID userId
+    );
+
+    @Operation(summary = "Get Notification Read Watermark By Organization")
+    @GetMapping("api/organizations/{organizationId}/notifications/read-watermark")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationReadWatermarkResponse getNotificationReadWatermark(
+            @Parameter(
+                    name = "organizationId",
+                    description = "Organization id value",
+                    required = true
+            )
+            @PathVariable("organizationId")
+            BigInteger organizationId
+    );
+
+    @Operation(summary = "Update Notification Read Watermark By Organization")
+    @PatchMapping("api/organizations/{organizationId}/notifications/read-watermark")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetNotificationReadWatermarkResponse updateNotificationReadWatermark(
+            @Parameter(
+                    name = "organizationId",
+                    description = "Organization id value",
+                    required = true
+            )
+            @PathVariable("organizationId")
+            BigInteger organizationId,
+            @Parameter(
+                    name = "PatchNotificationReadWatermarkRequest",
+                    description = "PatchNotificationReadWatermarkRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationReadWatermarkRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationReadWatermarkRequest patchNotificationReadWatermarkRequest
+    );
+
     @Operation(summary = "Create Notification")
     @PostMapping("api/notifications")
     @ResponseStatus(HttpStatus.CREATED)
@@ -322,6 +524,116 @@ public interface NotificationController {
             BigInteger id
     );
 
+    @Operation(summary = "Update Notifications As Seen")
+    @PatchMapping("api/notifications/seen")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse updateNotificationsAsSeen(
+            @Parameter(
+                    name = "PatchNotificationsRequest",
+                    description = "PatchNotificationsRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationsRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationsRequest patchNotificationsRequest
+    );
+
+    @Operation(summary = "Update Notifications As Sent")
+    @PatchMapping("api/notifications/sent")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse updateNotificationsAsSent(
+            @Parameter(
+                    name = "PatchNotificationsRequest",
+                    description = "PatchNotificationsRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationsRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationsRequest patchNotificationsRequest
+    );
+
+    @Operation(summary = "Update Notifications As Seen By User")
+    @PatchMapping("api/users/{userId}/notifications/seen")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse updateNotificationsAsSeenByUser(
+            @Parameter(
+                    name = "userId",
+                    description = "User id value",
+                    required = true
+            )
+            @PathVariable("userId")
+            UUID userId,
+            @Parameter(
+                    name = "PatchNotificationsSeenUpToRequest",
+                    description = "PatchNotificationsSeenUpToRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationsSeenUpToRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    );
+
+    @Operation(summary = "Update Notifications As Seen By Member")
+    @PatchMapping("api/members/{memberId}/notifications/seen")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse updateNotificationsAsSeenByMember(
+            @Parameter(
+                    name = "memberId",
+                    description = "Member id value",
+                    required = true
+            )
+            @PathVariable("memberId")
+            BigInteger memberId,
+            @Parameter(
+                    name = "PatchNotificationsSeenUpToRequest",
+                    description = "PatchNotificationsSeenUpToRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationsSeenUpToRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    );
+
+    @Operation(summary = "Update Notifications As Seen By Organization")
+    @PatchMapping("api/organizations/{organizationId}/notifications/seen")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse updateNotificationsAsSeenByOrganization(
+            @Parameter(
+                    name = "organizationId",
+                    description = "Organization id value",
+                    required = true
+            )
+            @PathVariable("organizationId")
+            BigInteger organizationId,
+            @Parameter(
+                    name = "PatchNotificationsSeenUpToRequest",
+                    description = "PatchNotificationsSeenUpToRequest DTO",
+                    schema = @Schema(implementation = PatchNotificationsSeenUpToRequest.class),
+                    required = true
+            )
+            @RequestBody
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    );
+
+    @Operation(summary = "Delete Notifications")
+    @DeleteMapping("/api/notifications")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    GetAffectedNotificationsResponse deleteNotifications(
+            @Parameter(
+                    name = "ids",
+                    description = "Ids of the notifications to delete",
+                    required = true
+            )
+            @RequestParam("ids")
+            List<BigInteger> ids
+    );
+
     @Operation(summary = "Delete Notification")
     @DeleteMapping("/api/notifications/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -1,32 +1,41 @@
 package com.keepitup.magjobbackend.notification.controller.impl;
 
+import com.keepitup.magjobbackend.configuration.Constants;
 import com.keepitup.magjobbackend.configuration.SecurityService;
 import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.member.service.impl.MemberDefaultService;
 import com.keepitup.magjobbackend.notification.controller.api.NotificationController;
+import com.keepitup.magjobbackend.notification.dto.GetAffectedNotificationsResponse;
+import com.keepitup.magjobbackend.notification.dto.GetNotificationReadWatermarkResponse;
 import com.keepitup.magjobbackend.notification.dto.GetNotificationResponse;
+import com.keepitup.magjobbackend.notification.dto.GetNotificationUnreadCountResponse;
 import com.keepitup.magjobbackend.notification.dto.GetNotificationsResponse;
-import com.keepitup.magjobbackend.notification.dto.PatchNotificationRequest;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationReadWatermarkRequest;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationsRequest;
+import com.keepitup.magjobbackend.notification.dto.PatchNotificationsSeenUpToRequest;
 import com.keepitup.magjobbackend.notification.dto.PostNotificationRequest;
 import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.function.NotificationInboxToResponseFunction;
 import com.keepitup.magjobbackend.notification.function.NotificationToResponseFunction;
 import com.keepitup.magjobbackend.notification.function.NotificationsToResponseFunction;
 import com.keepitup.magjobbackend.notification.function.RequestToNotificationFunction;
-import com.keepitup.magjobbackend.notification.function.UpdateNotificationWithRequestFunction;
 import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
 import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.organization.service.impl.OrganizationDefaultService;
 import com.keepitup.magjobbackend.user.entity.User;
 import com.keepitup.magjobbackend.user.service.impl.UserDefaultService;
+import com.keepitup.magjobbackend.util.CursorUtil;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Controller
@@ -39,8 +48,8 @@ public class NotificationDefaultController implements NotificationController {
     private final SecurityService securityService;
     private final NotificationToResponseFunction notificationToResponseFunction;
     private final NotificationsToResponseFunction notificationsToResponseFunction;
+    private final NotificationInboxToResponseFunction notificationInboxToResponseFunction;
     private final RequestToNotificationFunction requestToNotificationFunction;
-    private final UpdateNotificationWithRequestFunction updateNotificationWithRequestFunction;
 
     @Autowired
     public NotificationDefaultController(
@@ -51,8 +60,8 @@ public class NotificationDefaultController implements NotificationController {
         SecurityService securityService,
         NotificationToResponseFunction notificationToResponseFunction,
         NotificationsToResponseFunction notificationsToResponseFunction,
-        RequestToNotificationFunction requestToNotificationFunction,
-        UpdateNotificationWithRequestFunction updateNotificationWithRequestFunction
+        NotificationInboxToResponseFunction notificationInboxToResponseFunction,
+        RequestToNotificationFunction requestToNotificationFunction
     ) {
         this.notificationService = notificationService;
         this.organizationService = organizationService;
@@ -61,8 +70,8 @@ public class NotificationDefaultController implements NotificationController {
         this.securityService = securityService;
         this.notificationToResponseFunction = notificationToResponseFunction;
         this.notificationsToResponseFunction = notificationsToResponseFunction;
+        this.notificationInboxToResponseFunction = notificationInboxToResponseFunction;
         this.requestToNotificationFunction = requestToNotificationFunction;
-        this.updateNotificationWithRequestFunction = updateNotificationWithRequestFunction;
     }
 
     @Override
@@ -72,8 +81,8 @@ public class NotificationDefaultController implements NotificationController {
         }
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = notificationService.findAll().size();
-        return notificationsToResponseFunction.apply(notificationService.findAll(pageRequest), count);
+        Page<Notification> notifications = notificationService.findAll(pageRequest);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -84,8 +93,8 @@ public class NotificationDefaultController implements NotificationController {
         }
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = notificationService.findAllBySeen(seen, Pageable.unpaged()).getNumberOfElements();
-        return notificationsToResponseFunction.apply(notificationService.findAllBySeen(seen, pageRequest), count);
+        Page<Notification> notifications = notificationService.findAllBySeen(seen, pageRequest);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -95,8 +104,8 @@ public class NotificationDefaultController implements NotificationController {
         }
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = notificationService.findAllBySent(sent, Pageable.unpaged()).getNumberOfElements();
-        return notificationsToResponseFunction.apply(notificationService.findAllBySent(sent, pageRequest), count);
+        Page<Notification> notifications = notificationService.findAllBySent(sent, pageRequest);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -123,9 +132,9 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByOrganization(organization, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByOrganization(organization, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByOrganization(organization, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -140,9 +149,9 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByOrganizationAndSeen(organization, seen, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByOrganizationAndSeen(organization, seen, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByOrganizationAndSeen(organization, seen, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -157,9 +166,9 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByMember(member, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByMember(member, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByMember(member, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -174,9 +183,9 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByMemberAndSeen(member, seen, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByMemberAndSeen(member, seen, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByMemberAndSeen(member, seen, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -191,9 +200,9 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByUser(user, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByUser(user, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByUser(user, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
     }
 
     @Override
@@ -208,9 +217,87 @@ public class NotificationDefaultController implements NotificationController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = notificationService.findAllByUserAndSeen(user, seen, Pageable.unpaged()).getNumberOfElements();
+        Page<Notification> notifications = notificationService.findAllByUserAndSeen(user, seen, pageRequest);
 
-        return notificationsToResponseFunction.apply(notificationService.findAllByUserAndSeen(user, seen, pageRequest), count);
+        return notificationsToResponseFunction.apply(notifications);
+    }
+
+    @Override
+    public GetNotificationsResponse getNotificationInboxByOrganization(String cursor, String since, int limit, Boolean seen, BigInteger organizationId) {
+        validateInboxLimit(limit);
+        BigInteger cursorId = CursorUtil.decode(cursor);
+        BigInteger sinceId = CursorUtil.decode(since);
+
+        Organization organization = organizationService.find(organizationId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (securityService.belongsToOrganization(organization)) {
+            BigInteger readWatermark = notificationService.findReadWatermark(securityService.getCurrentMember(organization));
+
+            return notificationInboxToResponseFunction.apply(
+                    notificationService.findInboxByOrganizationForReader(organization, readWatermark, seen, cursorId, sinceId, limit + 1),
+                    limit,
+                    cursorId,
+                    sinceId,
+                    readWatermark
+            );
+        }
+
+        if (!securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return notificationInboxToResponseFunction.apply(
+                notificationService.findInboxByOrganization(organization, seen, cursorId, sinceId, limit + 1),
+                limit,
+                cursorId,
+                sinceId
+        );
+    }
+
+    @Override
+    public GetNotificationsResponse getNotificationInboxByMember(String cursor, String since, int limit, Boolean seen, BigInteger memberId) {
+        validateInboxLimit(limit);
+        BigInteger cursorId = CursorUtil.decode(cursor);
+        BigInteger sinceId = CursorUtil.decode(since);
+
+        Member member = memberService.find(memberId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentMember(member) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return notificationInboxToResponseFunction.apply(
+                notificationService.findInboxByMember(member, seen, cursorId, sinceId, limit + 1),
+                limit,
+                cursorId,
+                sinceId
+        );
+    }
+
+    @Override
+    public GetNotificationsResponse getNotificationInboxByUser(String cursor, String since, int limit, Boolean seen, UUID userId) {
+        validateInboxLimit(limit);
+        BigInteger cursorId = CursorUtil.decode(cursor);
+        BigInteger sinceId = CursorUtil.decode(since);
+
+        User user = userService.find(userId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentUser(user) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return notificationInboxToResponseFunction.apply(
+                notificationService.findInboxByUser(user, seen, cursorId, sinceId, limit + 1),
+                limit,
+                cursorId,
+                sinceId
+        );
     }
 
     @Override
@@ -270,15 +357,10 @@ public class NotificationDefaultController implements NotificationController {
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
-        PatchNotificationRequest patchNotificationRequest = new PatchNotificationRequest();
-        patchNotificationRequest.setSeen(true);
-        patchNotificationRequest.setSent(notification.isSent());
-
-        notificationService.update(updateNotificationWithRequestFunction.apply(notification, patchNotificationRequest));
+        notificationService.markAsSeen(notification);
+        notification.setSeen(true);
 
-        return notificationService.find(id)
-                .map(notificationToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return notificationToResponseFunction.apply(notification);
     }
 
     @Override
@@ -291,15 +373,96 @@ public class NotificationDefaultController implements NotificationController {
                 () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
         );
 
-        PatchNotificationRequest patchNotificationRequest = new PatchNotificationRequest();
-        patchNotificationRequest.setSeen(notification.isSeen());
-        patchNotificationRequest.setSent(true);
+        notificationService.markAllAsSent(List.of(id));
+        notification.setSent(true);
 
-        notificationService.update(updateNotificationWithRequestFunction.apply(notification, patchNotificationRequest));
+        return notificationToResponseFunction.apply(notification);
+    }
 
-        return notificationService.find(id)
-                .map(notificationToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    @Override
+    public GetAffectedNotificationsResponse updateNotificationsAsSeen(PatchNotificationsRequest patchNotificationsRequest) {
+        List<Notification> notifications = findOwnNotifications(patchNotificationsRequest.getIds());
+
+        return toAffectedResponse(notificationService.markAllAsSeen(notifications));
+    }
+
+    @Override
+    public GetAffectedNotificationsResponse updateNotificationsAsSent(PatchNotificationsRequest patchNotificationsRequest) {
+        if (!securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        validateBulkIds(patchNotificationsRequest.getIds());
+
+        return toAffectedResponse(notificationService.markAllAsSent(patchNotificationsRequest.getIds()));
+    }
+
+    @Override
+    public GetAffectedNotificationsResponse updateNotificationsAsSeenByUser(
+            UUID userId,
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    ) {
+        validateUpToId(patchNotificationsSeenUpToRequest);
+
+        User user = userService.find(userId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentUser(user) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return toAffectedResponse(
+                notificationService.markAllAsSeenByUserUpTo(user, patchNotificationsSeenUpToRequest.getUpToId())
+        );
+    }
+
+    @Override
+    public GetAffectedNotificationsResponse updateNotificationsAsSeenByMember(
+            BigInteger memberId,
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    ) {
+        validateUpToId(patchNotificationsSeenUpToRequest);
+
+        Member member = memberService.find(memberId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentMember(member) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return toAffectedResponse(
+                notificationService.markAllAsSeenByMemberUpTo(member, patchNotificationsSeenUpToRequest.getUpToId())
+        );
+    }
+
+    @Override
+    public GetAffectedNotificationsResponse updateNotificationsAsSeenByOrganization(
+            BigInteger organizationId,
+            PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest
+    ) {
+        validateUpToId(patchNotificationsSeenUpToRequest);
+
+        Organization organization = organizationService.find(organizationId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.belongsToOrganization(organization)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return toAffectedResponse(notificationService.markAllAsSeenByOrganizationUpTo(
+                securityService.getCurrentMember(organization),
+                patchNotificationsSeenUpToRequest.getUpToId()
+        ));
+    }
+
+    @Override
+    public GetAffectedNotificationsResponse deleteNotifications(List<BigInteger> ids) {
+        List<Notification> notifications = findOwnNotifications(ids);
+
+        return toAffectedResponse(notificationService.deleteAll(notifications));
     }
 
     @Override
@@ -314,4 +477,150 @@ public class NotificationDefaultController implements NotificationController {
 
         notificationService.delete(id);
     }
+
+    @Override
+    public GetNotificationUnreadCountResponse getNotificationUnreadCountByOrganization(BigInteger organizationId) {
+        Organization organization = organizationService.find(organizationId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.belongsToOrganization(organization)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return GetNotificationUnreadCountResponse.builder()
+                .unreadCount(notificationService.countUnreadByOrganization(securityService.getCurrentMember(organization)))
+                .build();
+    }
+
+    @Override
+    public GetNotificationUnreadCountResponse getNotificationUnreadCountByMember(BigInteger memberId) {
+        Member member = memberService.find(memberId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentMember(member) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return GetNotificationUnreadCountResponse.builder()
+                .unreadCount(notificationService.countUnreadByMember(member))
+                .build();
+    }
+
+    @Override
+    public GetNotificationUnreadCountResponse getNotificationUnreadCountByUser(UUID userId) {
+        User user = userService.find(userId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.isCurrentUser(user) && !securityService.hasAdminPermission()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return GetNotificationUnreadCountResponse.builder()
+                .unreadCount(notificationService.countUnreadByUser(user))
+                .build();
+    }
+
+    @Override
+    public GetNotificationReadWatermarkResponse getNotificationReadWatermark(BigInteger organizationId) {
+        Organization organization = organizationService.find(organizationId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.belongsToOrganization(organization)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        Member member = securityService.getCurrentMember(organization);
+
+        return toReadWatermarkResponse(organization, member, notificationService.findReadWatermark(member));
+    }
+
+    @Override
+    public GetNotificationReadWatermarkResponse updateNotificationReadWatermark(
+            BigInteger organizationId,
+            PatchNotificationReadWatermarkRequest patchNotificationReadWatermarkRequest
+    ) {
+        if (patchNotificationReadWatermarkRequest.getLastSeenNotificationId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+
+        Organization organization = organizationService.find(organizationId).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        if (!securityService.belongsToOrganization(organization)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        Member member = securityService.getCurrentMember(organization);
+
+        BigInteger readWatermark = notificationService.advanceReadWatermark(
+                member,
+                patchNotificationReadWatermarkRequest.getLastSeenNotificationId()
+        );
+
+        return toReadWatermarkResponse(organization, member, readWatermark);
+    }
+
+    private GetNotificationReadWatermarkResponse toReadWatermarkResponse(Organization organization, Member member, BigInteger readWatermark) {
+        return GetNotificationReadWatermarkResponse.builder()
+                .organizationId(organization.getId())
+                .memberId(member.getId())
+                .lastSeenNotificationId(readWatermark)
+                .unreadCount(notificationService.countUnreadByOrganization(member))
+                .build();
+    }
+
+    /**
+     * Loads the notifications in one query and checks that the caller is the recipient of every
+     * one of them. Organization notifications are shared, only an admin may change them in bulk.
+     */
+    private List<Notification> findOwnNotifications(List<BigInteger> ids) {
+        validateBulkIds(ids);
+
+        List<Notification> notifications = notificationService.findAllByIds(ids);
+
+        if (securityService.hasAdminPermission()) {
+            return notifications;
+        }
+
+        for (Notification notification : notifications) {
+            boolean isRecipient = notification.getUser() != null
+                    ? securityService.isCurrentUser(notification.getUser())
+                    : notification.getMember() != null && securityService.isCurrentMember(notification.getMember());
+
+            if (!isRecipient) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+            }
+        }
+
+        return notifications;
+    }
+
+    private void validateBulkIds(Collection<BigInteger> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > Constants.BULK_OPERATION_MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void validateUpToId(PatchNotificationsSeenUpToRequest patchNotificationsSeenUpToRequest) {
+        if (patchNotificationsSeenUpToRequest.getUpToId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private GetAffectedNotificationsResponse toAffectedResponse(int affected) {
+        return GetAffectedNotificationsResponse.builder()
+                .affected(affected)
+                .build();
+    }
+
+    private void validateInboxLimit(int limit) {
+        if (limit < 1 || limit > Constants.CURSOR_PAGE_MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
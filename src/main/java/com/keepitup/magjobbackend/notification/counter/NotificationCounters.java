@@ -0,0 +1,209 @@
+package com.keepitup.magjobbackend.notification.counter;
+
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.dto.GetNotificationUnreadCountResponse;
+import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.entity.NotificationCounter;
+import com.keepitup.magjobbackend.notification.respository.api.NotificationCounterRepository;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Keeps {@link NotificationCounter} rows in step with notification writes. Every change is an
+ * upsert that creates a missing row from a count query, and is meant to run in the transaction
+ * that wrote the notifications, so a counter never misses a change made while it was being
+ * created. Every change of a user or member counter is pushed to the recipient's
+ * {@code unread-count} topic after the transaction commits.
+ */
+@Component
+@Log
+public class NotificationCounters {
+    private final NotificationCounterRepository counterRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    public NotificationCounters(
+            NotificationCounterRepository counterRepository,
+            SimpMessagingTemplate messagingTemplate
+    ) {
+        this.counterRepository = counterRepository;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public long unreadByUser(User user) {
+        return getOrInitialize(
+                () -> counterRepository.findByUser(user),
+                () -> counterRepository.addByUser(user.getId(), 0)
+        );
+    }
+
+    public long unreadByMember(Member member) {
+        return getOrInitialize(
+                () -> counterRepository.findByMember(member),
+                () -> counterRepository.addByMember(member.getId(), 0)
+        );
+    }
+
+    public long totalByOrganization(Organization organization) {
+        return getOrInitialize(
+                () -> counterRepository.findByOrganization(organization),
+                () -> counterRepository.addByOrganization(organization.getId(), 0)
+        );
+    }
+
+    public void created(Collection<Notification> notifications) {
+        add(notifications, 1);
+    }
+
+    /**
+     * Deleted organization notifications leave the organization total, deleted user and member
+     * notifications only matter while unseen.
+     */
+    public void deleted(Collection<Notification> notifications) {
+        add(notifications.stream()
+                .filter(notification -> notification.getOrganization() != null || !notification.isSeen())
+                .toList(), -1);
+    }
+
+    private void add(Collection<Notification> notifications, long sign) {
+        Map<UUID, User> users = new LinkedHashMap<>();
+        Map<UUID, Long> userDeltas = new LinkedHashMap<>();
+        Map<BigInteger, Member> members = new LinkedHashMap<>();
+        Map<BigInteger, Long> memberDeltas = new LinkedHashMap<>();
+        Map<BigInteger, Long> organizationDeltas = new LinkedHashMap<>();
+
+        for (Notification notification : notifications) {
+            if (notification.getUser() != null) {
+                users.putIfAbsent(notification.getUser().getId(), notification.getUser());
+                userDeltas.merge(notification.getUser().getId(), sign, Long::sum);
+            } else if (notification.getMember() != null) {
+                members.putIfAbsent(notification.getMember().getId(), notification.getMember());
+                memberDeltas.merge(notification.getMember().getId(), sign, Long::sum);
+            } else if (notification.getOrganization() != null) {
+                organizationDeltas.merge(notification.getOrganization().getId(), sign, Long::sum);
+            }
+        }
+
+        userDeltas.forEach((id, delta) -> addToUser(users.get(id), delta));
+        memberDeltas.forEach((id, delta) -> addToMember(members.get(id), delta));
+        organizationDeltas.forEach((id, delta) -> counterRepository.addByOrganization(id, delta));
+    }
+
+    /**
+     * Call after {@code count} notifications of the recipient of {@code notification} were deleted,
+     * counting only unseen ones for a user or member recipient.
+     */
+    public void deleted(Notification notification, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        if (notification.getUser() != null) {
+            addToUser(notification.getUser(), -count);
+        } else if (notification.getMember() != null) {
+            addToMember(notification.getMember(), -count);
+        } else if (notification.getOrganization() != null) {
+            counterRepository.addByOrganization(notification.getOrganization().getId(), -count);
+        }
+    }
+
+    /**
+     * Call after {@code count} notifications of the recipient of {@code notification} were marked
+     * as seen.
+     */
+    public void read(Notification notification, long count) {
+        if (notification.getUser() != null) {
+            readByUser(notification.getUser(), count);
+        } else if (notification.getMember() != null) {
+            readByMember(notification.getMember(), count);
+        }
+    }
+
+    public void readByUser(User user, long count) {
+        if (count > 0) {
+            addToUser(user, -count);
+        }
+    }
+
+    public void readByMember(Member member, long count) {
+        if (count > 0) {
+            addToMember(member, -count);
+        }
+    }
+
+    private void addToUser(User user, long delta) {
+        if (counterRepository.addByUser(user.getId(), delta) > 0) {
+            counterRepository.findByUser(user).ifPresent(counter -> push(
+                    String.join("", Constants.NOTIFICATION_USER_DEFAULT_WEBSOCKET_ENDPOINT, user.getId().toString()),
+                    counter.getNotificationCount()
+            ));
+        }
+    }
+
+    private void addToMember(Member member, long delta) {
+        if (counterRepository.addByMember(member.getId(), delta) > 0) {
+            counterRepository.findByMember(member).ifPresent(counter -> push(
+                    String.join("", Constants.NOTIFICATION_MEMBER_DEFAULT_WEBSOCKET_ENDPOINT, member.getId().toString()),
+                    counter.getNotificationCount()
+            ));
+        }
+    }
+
+    /**
+     * Pushes once the surrounding transaction commits, so clients never see a count that was rolled
+     * back or that a following read cannot see yet.
+     */
+    private void push(String recipientEndpoint, long unreadCount) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(recipientEndpoint, unreadCount);
+                }
+            });
+        } else {
+            send(recipientEndpoint, unreadCount);
+        }
+    }
+
+    private void send(String recipientEndpoint, long unreadCount) {
+        try {
+            messagingTemplate.convertAndSend(
+                    recipientEndpoint + Constants.NOTIFICATION_UNREAD_COUNT_ENDPOINT,
+                    GetNotificationUnreadCountResponse.builder()
+                            .unreadCount(unreadCount)
+                            .build()
+            );
+        } catch (MessagingException e) {
+            log.log(Level.WARNING, "Could not push unread count to " + recipientEndpoint, e);
+        }
+    }
+
+    private long getOrInitialize(Supplier<Optional<NotificationCounter>> finder, Runnable initializer) {
+        Optional<NotificationCounter> counter = finder.get();
+
+        if (counter.isPresent()) {
+            return counter.get().getNotificationCount();
+        }
+
+        initializer.run();
+        return finder.get().map(NotificationCounter::getNotificationCount).orElse(0L);
+    }
+}
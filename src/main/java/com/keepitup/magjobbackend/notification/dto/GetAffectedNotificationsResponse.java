@@ -0,0 +1,17 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetAffectedNotificationsResponse DTO")
+public class GetAffectedNotificationsResponse {
+    @Schema(description = "Number of notifications changed by the operation")
+    private Integer affected;
+}
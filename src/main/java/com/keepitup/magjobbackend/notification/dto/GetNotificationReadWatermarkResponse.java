@@ -0,0 +1,28 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetNotificationReadWatermarkResponse DTO")
+public class GetNotificationReadWatermarkResponse {
+    @Schema(description = "Organization id value")
+    private BigInteger organizationId;
+
+    @Schema(description = "Member id value")
+    private BigInteger memberId;
+
+    @Schema(description = "Id of the newest organization notification seen by the member")
+    private BigInteger lastSeenNotificationId;
+
+    @Schema(description = "Number of organization notifications not yet seen by the member")
+    private Long unreadCount;
+}
@@ -0,0 +1,17 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "GetNotificationUnreadCountResponse DTO")
+public class GetNotificationUnreadCountResponse {
+    @Schema(description = "Number of unseen notifications")
+    private Long unreadCount;
+}
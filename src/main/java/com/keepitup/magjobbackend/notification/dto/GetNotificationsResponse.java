@@ -52,4 +52,10 @@ public class GetNotificationsResponse {
 
     @Schema(description = "Number of all objects")
     private Integer count;
+
+    @Schema(description = "Cursor pointing to older notifications, absent when there are none")
+    private String nextCursor;
+
+    @Schema(description = "Cursor of the newest notification seen so far, to be passed as since when polling")
+    private String sinceCursor;
 }
@@ -0,0 +1,19 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "PatchNotificationReadWatermarkRequest DTO")
+public class PatchNotificationReadWatermarkRequest {
+    @Schema(description = "Id of the newest organization notification seen by the member")
+    private BigInteger lastSeenNotificationId;
+}
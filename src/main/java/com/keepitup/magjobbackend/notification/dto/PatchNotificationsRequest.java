@@ -0,0 +1,20 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "PatchNotificationsRequest DTO")
+public class PatchNotificationsRequest {
+    @Schema(description = "Ids of the notifications to update")
+    private List<BigInteger> ids;
+}
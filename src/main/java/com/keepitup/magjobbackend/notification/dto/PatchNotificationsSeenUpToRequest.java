@@ -0,0 +1,19 @@
+package com.keepitup.magjobbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Schema(description = "PatchNotificationsSeenUpToRequest DTO")
+public class PatchNotificationsSeenUpToRequest {
+    @Schema(description = "Id of the newest notification to mark as seen, every older one is marked too")
+    private BigInteger upToId;
+}
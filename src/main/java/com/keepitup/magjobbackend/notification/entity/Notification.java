@@ -18,10 +18,23 @@ import java.time.LocalDateTime;
 @ToString
 @EqualsAndHashCode
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_seen_id", columnList = "user_id, seen, id"),
+        @Index(name = "idx_notifications_member_seen_id", columnList = "member_id, seen, id"),
+        @Index(name = "idx_notifications_organization_seen_id", columnList = "organization_id, seen, id"),
+        @Index(name = "idx_notifications_organization_id", columnList = "organization_id, id"),
+        @Index(name = "idx_notifications_sent_id", columnList = "sent, id"),
+        @Index(name = "idx_notifications_seen_date_of_creation", columnList = "seen, date_of_creation"),
+        @Index(name = "idx_notifications_date_of_creation", columnList = "date_of_creation")
+})
 public class Notification {
+    /**
+     * Taken from the sequence one at a time, so ids follow creation order across nodes; read
+     * watermarks and delta polling rely on it.
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificationSequenceGenerator")
+    @SequenceGenerator(name = "notificationSequenceGenerator", allocationSize = 1)
     private BigInteger id;
 
     @Column(name = "date_of_creation")
@@ -36,6 +49,15 @@ public class Notification {
     @Column(name = "sent")
     private boolean sent;
 
+    @Column(name = "delivery_attempts")
+    private int deliveryAttempts;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
@@ -0,0 +1,51 @@
+package com.keepitup.magjobbackend.notification.entity;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigInteger;
+
+/**
+ * Maintained notification count of exactly one recipient. For a user or a member it is the number
+ * of unseen notifications, for an organization the number of all its notifications; a member's
+ * unread organization count is derived from it and the member's {@link NotificationReadWatermark}.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Entity
+@Table(name = "notification_counters")
+public class NotificationCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificationCounterSequenceGenerator")
+    @SequenceGenerator(name = "notificationCounterSequenceGenerator", sequenceName = "notification_counters_seq", allocationSize = 1)
+    private BigInteger id;
+
+    @OneToOne
+    @JoinColumn(name = "user_id", unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @OneToOne
+    @JoinColumn(name = "member_id", unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+
+    @OneToOne
+    @JoinColumn(name = "organization_id", unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Organization organization;
+
+    @Column(name = "notification_count", nullable = false)
+    private long notificationCount;
+}
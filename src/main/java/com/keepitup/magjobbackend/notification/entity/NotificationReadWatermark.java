@@ -0,0 +1,45 @@
+package com.keepitup.magjobbackend.notification.entity;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigInteger;
+
+/**
+ * Per-member read state of organization notifications. Organization notifications are stored once,
+ * every one with an id up to {@code lastSeenNotificationId} counts as seen by the member.
+ * {@code seenNotificationCount} is the number of those notifications, so the member's unread count
+ * is the organization's notification counter minus it. The watermark never points past the
+ * organization's newest notification. Ids follow creation order, not commit order: a notification
+ * whose transaction commits after a newer one was marked as seen counts as seen.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@EqualsAndHashCode
+@Entity
+@Table(name = "notification_read_watermarks")
+public class NotificationReadWatermark {
+    @Id
+    @Column(name = "member_id")
+    private BigInteger memberId;
+
+    @MapsId
+    @OneToOne
+    @JoinColumn(name = "member_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+
+    @Column(name = "last_seen_notification_id", nullable = false)
+    private BigInteger lastSeenNotificationId;
+
+    @Column(name = "seen_notification_count", nullable = false)
+    private long seenNotificationCount;
+}
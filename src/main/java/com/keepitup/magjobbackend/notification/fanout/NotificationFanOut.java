@@ -0,0 +1,59 @@
+package com.keepitup.magjobbackend.notification.fanout;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
+import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sends the same notification content to many recipients. Rows are inserted in chunks of the
+ * JDBC batch size; delivery is left to the notification outbox.
+ */
+@Component
+public class NotificationFanOut {
+    private final NotificationDefaultService notificationService;
+    private final int batchSize;
+
+    @Autowired
+    public NotificationFanOut(
+            NotificationDefaultService notificationService,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+    }
+
+    public void toUsers(Collection<User> users, String content) {
+        fanOut(users.stream()
+                .<Notification>map(user -> Notification.builder()
+                        .user(user)
+                        .content(content)
+                        .build())
+                .toList());
+    }
+
+    public void toMembers(Collection<Member> members, String content) {
+        fanOut(members.stream()
+                .<Notification>map(member -> Notification.builder()
+                        .member(member)
+                        .content(content)
+                        .build())
+                .toList());
+    }
+
+    private void fanOut(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            List<Notification> chunk = new ArrayList<>(
+                    notifications.subList(from, Math.min(from + batchSize, notifications.size()))
+            );
+            notificationService.createAll(chunk);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.keepitup.magjobbackend.notification.function;
+
+import com.keepitup.magjobbackend.notification.dto.GetNotificationsResponse;
+import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.util.CursorUtil;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Component
+public class NotificationInboxToResponseFunction {
+    /**
+     * @param notifications inbox slice as returned by the service, fetched with one row more than the limit
+     * @param limit         number of notifications requested by the client
+     * @param cursor        cursor of the request, {@code null} for the newest page
+     * @param since         since cursor of the request, {@code null} when paging backwards
+     */
+    public GetNotificationsResponse apply(List<Notification> notifications, int limit, BigInteger cursor, BigInteger since) {
+        return apply(notifications, limit, cursor, since, null);
+    }
+
+    /**
+     * @param readWatermark when present, seen is reported relative to the reader's watermark
+     *                      instead of the notification's own flag
+     */
+    public GetNotificationsResponse apply(List<Notification> notifications, int limit, BigInteger cursor, BigInteger since, BigInteger readWatermark) {
+        boolean hasMore = notifications.size() > limit;
+        List<Notification> page = hasMore ? notifications.subList(0, limit) : notifications;
+
+        BigInteger newestId;
+        String nextCursor = null;
+
+        if (since != null) {
+            newestId = page.isEmpty() ? since : page.get(page.size() - 1).getId();
+        } else {
+            newestId = cursor == null && !page.isEmpty() ? page.get(0).getId() : null;
+            if (hasMore) {
+                nextCursor = CursorUtil.encode(page.get(page.size() - 1).getId());
+            }
+        }
+
+        return GetNotificationsResponse.builder()
+                .notifications(page.stream()
+                        .map(notification -> GetNotificationsResponse.Notification.builder()
+                                .id(notification.getId())
+                                .content(notification.getContent())
+                                .seen(readWatermark != null
+                                        ? notification.getId().compareTo(readWatermark) <= 0
+                                        : notification.isSeen())
+                                .sent(notification.isSent())
+                                .organizationId(notification.getOrganization() != null ? notification.getOrganization().getId() : null)
+                                .memberId(notification.getMember() != null ? notification.getMember().getId() : null)
+                                .userId(notification.getUser() != null ? notification.getUser().getId() : null)
+                                .build())
+                        .toList())
+                .count(page.size())
+                .nextCursor(nextCursor)
+                .sinceCursor(CursorUtil.encode(newestId))
+                .build();
+    }
+}
@@ -5,11 +5,11 @@ import com.keepitup.magjobbackend.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class NotificationsToResponseFunction implements BiFunction<Page<Notification>, Integer, GetNotificationsResponse> {
-    public GetNotificationsResponse apply(Page<Notification> notifications, Integer count) {
+public class NotificationsToResponseFunction implements Function<Page<Notification>, GetNotificationsResponse> {
+    public GetNotificationsResponse apply(Page<Notification> notifications) {
         return GetNotificationsResponse.builder()
                 .notifications(notifications.stream()
                         .map(notification -> GetNotificationsResponse.Notification.builder()
@@ -22,7 +22,7 @@ public class NotificationsToResponseFunction implements BiFunction<Page<Notifica
                                 .userId(notification.getUser() != null ? notification.getUser().getId() : null)
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(notifications.getTotalElements()))
                 .build();
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ public class UpdateNotificationWithRequestFunction implements BiFunction<Notific
                 .content(notification.getContent())
                 .seen(patchNotificationRequest.isSeen())
                 .sent(patchNotificationRequest.isSent())
+                .deliveryAttempts(notification.getDeliveryAttempts())
                 .organization(notification.getOrganization())
                 .member(notification.getMember())
                 .user(notification.getUser())
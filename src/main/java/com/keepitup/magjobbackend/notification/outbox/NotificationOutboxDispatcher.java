@@ -0,0 +1,134 @@
+package com.keepitup.magjobbackend.notification.outbox;
+
+import com.keepitup.magjobbackend.configuration.AsyncConfig;
+import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * Drains unsent notifications to their WebSocket destinations in id order and flags them as sent
+ * in bulk. A drain is requested after every committed write and coalesced, so at most one drain
+ * is queued on the notification executor no matter how many notifications are created. A
+ * scheduled poll picks up anything a rejected or failed drain left behind.
+ * <p>
+ * A batch that fails to deliver stops the drain; the failed rows have their attempt counter
+ * raised and are retried on the next poll until the configured maximum is reached.
+ * <p>
+ * Every batch is claimed before it is sent, so with several nodes each notification is delivered
+ * by one of them. Notifications claimed by a node that dies are delivered again after the claim
+ * timeout; ordering holds within a batch, not across nodes.
+ */
+@Component
+@Log
+public class NotificationOutboxDispatcher {
+    private final NotificationDefaultService notificationService;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    @Autowired
+    public NotificationOutboxDispatcher(
+            NotificationDefaultService notificationService,
+            @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) Executor executor,
+            @Value("${keepitup.magjob.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${keepitup.magjob.notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${keepitup.magjob.notification.outbox.claim-timeout:PT1M}") Duration claimTimeout
+    ) {
+        this.notificationService = notificationService;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${keepitup.magjob.notification.outbox.poll-interval:PT5S}")
+    public void poll() {
+        drain();
+    }
+
+    public void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainRequested.set(false);
+            log.fine("Notification executor saturated, leaving the outbox to the next poll");
+        }
+    }
+
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+
+        try {
+            do {
+                drainRequested.set(false);
+                while (deliverBatch() == batchSize) {
+                    // keep draining full batches
+                }
+            } while (drainRequested.get());
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Notification outbox drain failed", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * @return size of the delivered batch, or 0 when any notification in it could not be delivered
+     */
+    private int deliverBatch() {
+        List<Notification> batch = notificationService.claimPendingDelivery(maxAttempts, batchSize, claimTimeout);
+        List<BigInteger> delivered = new ArrayList<>(batch.size());
+        List<BigInteger> failed = new ArrayList<>();
+
+        for (Notification notification : batch) {
+            try {
+                notificationService.sendNotificationToWebSocket(notification);
+                delivered.add(notification.getId());
+            } catch (RuntimeException e) {
+                failed.add(notification.getId());
+                log.log(Level.WARNING, "Could not deliver notification " + notification.getId(), e);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            notificationService.markAllAsSent(delivered);
+        }
+
+        if (!failed.isEmpty()) {
+            notificationService.registerDeliveryFailures(failed);
+            return 0;
+        }
+
+        return batch.size();
+    }
+}
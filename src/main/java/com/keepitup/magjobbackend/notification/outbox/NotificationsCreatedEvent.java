@@ -0,0 +1,8 @@
+package com.keepitup.magjobbackend.notification.outbox;
+
+/**
+ * Published whenever notification rows are written. The rows themselves are the outbox, the event
+ * only wakes the {@link NotificationOutboxDispatcher} once the writing transaction has committed.
+ */
+public class NotificationsCreatedEvent {
+}
@@ -0,0 +1,54 @@
+package com.keepitup.magjobbackend.notification.respository.api;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.entity.NotificationCounter;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, BigInteger> {
+    Optional<NotificationCounter> findByUser(User user);
+    Optional<NotificationCounter> findByMember(Member member);
+    Optional<NotificationCounter> findByOrganization(Organization organization);
+
+    /**
+     * Adds {@code delta} to the user's counter. A missing counter is created from the number of
+     * unseen notifications visible to the calling transaction, which already includes its own
+     * write; a concurrent writer then conflicts with the new row and adds its own delta instead.
+     * Must run in the transaction that changed the notifications.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into notification_counters (id, user_id, notification_count) "
+            + "select nextval('notification_counters_seq'), :userId, count(*) from notifications n "
+            + "where n.user_id = :userId and n.seen = false "
+            + "on conflict (user_id) do update set notification_count = notification_counters.notification_count + :delta",
+            nativeQuery = true)
+    int addByUser(@Param("userId") UUID userId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into notification_counters (id, member_id, notification_count) "
+            + "select nextval('notification_counters_seq'), :memberId, count(*) from notifications n "
+            + "where n.member_id = :memberId and n.seen = false "
+            + "on conflict (member_id) do update set notification_count = notification_counters.notification_count + :delta",
+            nativeQuery = true)
+    int addByMember(@Param("memberId") BigInteger memberId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into notification_counters (id, organization_id, notification_count) "
+            + "select nextval('notification_counters_seq'), :organizationId, count(*) from notifications n "
+            + "where n.organization_id = :organizationId "
+            + "on conflict (organization_id) do update set notification_count = notification_counters.notification_count + :delta",
+            nativeQuery = true)
+    int addByOrganization(@Param("organizationId") BigInteger organizationId, @Param("delta") long delta);
+}
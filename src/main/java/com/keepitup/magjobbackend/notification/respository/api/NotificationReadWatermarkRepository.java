@@ -0,0 +1,57 @@
+package com.keepitup.magjobbackend.notification.respository.api;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.entity.NotificationReadWatermark;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermark, BigInteger> {
+    Optional<NotificationReadWatermark> findByMember(Member member);
+
+    /**
+     * Creates the watermark or moves it forward in one statement, recounting the notifications it
+     * covers. The requested id is clamped to the organization's newest notification, and a stale
+     * request never moves the watermark back.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into notification_read_watermarks (member_id, last_seen_notification_id, seen_notification_count) "
+            + "select :memberId, upTo.id, (select count(*) from notifications n "
+            + "where n.organization_id = :organizationId and n.id <= upTo.id) "
+            + "from (select least(:lastSeenNotificationId, coalesce(max(n.id), 0)) as id from notifications n "
+            + "where n.organization_id = :organizationId) upTo "
+            + "on conflict (member_id) do update set "
+            + "seen_notification_count = case "
+            + "when excluded.last_seen_notification_id > notification_read_watermarks.last_seen_notification_id "
+            + "then excluded.seen_notification_count else notification_read_watermarks.seen_notification_count end, "
+            + "last_seen_notification_id = greatest(notification_read_watermarks.last_seen_notification_id, "
+            + "excluded.last_seen_notification_id)",
+            nativeQuery = true)
+    int advance(
+            @Param("memberId") BigInteger memberId,
+            @Param("organizationId") BigInteger organizationId,
+            @Param("lastSeenNotificationId") BigInteger lastSeenNotificationId
+    );
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationReadWatermark w set w.seenNotificationCount = w.seenNotificationCount - 1 "
+            + "where w.lastSeenNotificationId >= :notificationId "
+            + "and w.member in (select m from Member m where m.organization = :organization)")
+    int forgetSeenNotification(@Param("organization") Organization organization, @Param("notificationId") BigInteger notificationId);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationReadWatermark w set w.seenNotificationCount = w.seenNotificationCount - "
+            + "(select count(n) from Notification n where n.id in :notificationIds and n.id <= w.lastSeenNotificationId) "
+            + "where w.member in (select m from Member m where m.organization = :organization)")
+    int forgetSeenNotifications(@Param("organization") Organization organization, @Param("notificationIds") Collection<BigInteger> notificationIds);
+}
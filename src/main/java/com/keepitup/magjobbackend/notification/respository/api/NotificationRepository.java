@@ -3,15 +3,23 @@ import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.notification.entity.Notification;
 import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface NotificationRepository extends JpaRepository<Notification, BigInteger> {
+public interface NotificationRepository extends JpaRepository<Notification, BigInteger>, JpaSpecificationExecutor<Notification> {
     Page<Notification> findAllBySeen(boolean seen, Pageable pageable);
     Page<Notification> findAllBySent(boolean sent, Pageable pageable);
     Page<Notification> findAllByUser(User user, Pageable pageable);
@@ -21,4 +29,73 @@ public interface NotificationRepository extends JpaRepository<Notification, BigI
     Page<Notification> findAllByMember(Member member, Pageable pageable);
     Page<Notification> findAllByMemberAndSeen(Member member, Boolean seen, Pageable pageable);
 
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.seen = true where n.id = :id and n.seen = false")
+    int markAsSeen(@Param("id") BigInteger id);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.seen = true where n.id in :ids and n.seen = false")
+    int markAllAsSeen(@Param("ids") Collection<BigInteger> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.seen = true where n.user = :user and n.seen = false and n.id <= :upToId")
+    int markAllAsSeenByUserUpTo(@Param("user") User user, @Param("upToId") BigInteger upToId);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.seen = true where n.member = :member and n.seen = false and n.id <= :upToId")
+    int markAllAsSeenByMemberUpTo(@Param("member") Member member, @Param("upToId") BigInteger upToId);
+
+    @Query("select n.id from Notification n where n.seen = true and n.organization is null "
+            + "and n.dateOfCreation < :cutoff order by n.id")
+    List<BigInteger> findSeenIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query("select n.id from Notification n where n.organization is not null "
+            + "and n.dateOfCreation < :cutoff order by n.id")
+    List<BigInteger> findOrganizationIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Claims up to {@code limit} undelivered notifications in id order. Rows claimed by another node are
+     * skipped until their claim expires, rows being claimed at the same moment are skipped as well.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update notifications set claimed_by = :claimedBy, "
+            + "claimed_until = localtimestamp + make_interval(secs => :claimSeconds) "
+            + "where id in (select id from notifications where sent = false and delivery_attempts < :maxAttempts "
+            + "and (claimed_until is null or claimed_until < localtimestamp) "
+            + "order by id limit :limit for update skip locked)",
+            nativeQuery = true)
+    int claimPendingDelivery(
+            @Param("claimedBy") String claimedBy,
+            @Param("claimSeconds") long claimSeconds,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit
+    );
+
+    List<Notification> findAllByClaimedByAndSentOrderByIdAsc(String claimedBy, boolean sent);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.sent = true where n.id in :ids")
+    int markAllAsSent(@Param("ids") Collection<BigInteger> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.deliveryAttempts = n.deliveryAttempts + 1, n.claimedUntil = null where n.id in :ids")
+    int incrementDeliveryAttempts(@Param("ids") Collection<BigInteger> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<BigInteger> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids and n.seen = :seen")
+    int deleteAllByIdsAndSeen(@Param("ids") Collection<BigInteger> ids, @Param("seen") boolean seen);
+
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.keepitup.magjobbackend.notification.respository.specification;
+
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigInteger;
+
+/**
+ * Building blocks for notification inbox queries. Factories return {@code null} for an absent
+ * argument, which {@link Specification#and} treats as "no restriction".
+ */
+public final class NotificationSpecifications {
+
+    private NotificationSpecifications() {
+    }
+
+    public static Specification<Notification> hasUser(User user) {
+        return (root, query, builder) -> builder.equal(root.get("user"), user);
+    }
+
+    public static Specification<Notification> hasMember(Member member) {
+        return (root, query, builder) -> builder.equal(root.get("member"), member);
+    }
+
+    public static Specification<Notification> hasOrganization(Organization organization) {
+        return (root, query, builder) -> builder.equal(root.get("organization"), organization);
+    }
+
+    public static Specification<Notification> hasSeen(Boolean seen) {
+        if (seen == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("seen"), seen);
+    }
+
+    public static Specification<Notification> idLessThan(BigInteger id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<Notification> idLessThanOrEqualTo(BigInteger id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("id"), id);
+    }
+
+    public static Specification<Notification> idGreaterThan(BigInteger id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+}
@@ -0,0 +1,93 @@
+package com.keepitup.magjobbackend.notification.retention;
+
+import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * Purges notifications older than the configured age in chunks, so a single run never holds long
+ * locks or builds one huge transaction. Seen user and member notifications are removed as soon as
+ * they are old enough; organization notifications have no seen flag of their own and are removed
+ * by age alone, which also moves the organization counters and the members' read watermarks.
+ */
+@Component
+@ConditionalOnProperty(name = "keepitup.magjob.notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class NotificationRetentionJob {
+    private final NotificationDefaultService notificationService;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Counter purgedRecipientNotifications;
+    private final Counter purgedOrganizationNotifications;
+    private final Timer runTimer;
+
+    @Autowired
+    public NotificationRetentionJob(
+            NotificationDefaultService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${keepitup.magjob.notification.retention.max-age:P90D}") Duration maxAge,
+            @Value("${keepitup.magjob.notification.retention.chunk-size:1000}") int chunkSize,
+            @Value("${keepitup.magjob.notification.retention.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        this.notificationService = notificationService;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.purgedRecipientNotifications = Counter.builder("magjob.notification.retention.purged")
+                .description("Notifications removed by the retention job")
+                .tag("recipient", "user-or-member")
+                .register(meterRegistry);
+        this.purgedOrganizationNotifications = Counter.builder("magjob.notification.retention.purged")
+                .description("Notifications removed by the retention job")
+                .tag("recipient", "organization")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("magjob.notification.retention.run")
+                .description("Duration of a notification retention run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${keepitup.magjob.notification.retention.cron:0 30 3 * * *}")
+    public void purge() {
+        runTimer.record(() -> {
+            LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+
+            int recipientPurged = purgeInChunks(notificationService::purgeSeenOlderThan, cutoff, purgedRecipientNotifications);
+            int organizationPurged = purgeInChunks(notificationService::purgeOrganizationNotificationsOlderThan, cutoff, purgedOrganizationNotifications);
+
+            log.info(String.format(
+                    "Notification retention removed %d user and member and %d organization notifications older than %s",
+                    recipientPurged,
+                    organizationPurged,
+                    cutoff
+            ));
+        });
+    }
+
+    private int purgeInChunks(BiFunction<LocalDateTime, Integer, Integer> purgeChunk, LocalDateTime cutoff, Counter counter) {
+        int total = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int purged = purgeChunk.apply(cutoff, chunkSize);
+            counter.increment(purged);
+            total += purged;
+
+            if (purged < chunkSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,9 +26,31 @@ public interface NotificationService {
     Page<Notification> findAllByMemberAndSeen(Member member, Boolean seen, Pageable pageable);
     Page<Notification> findAllByUser(User user, Pageable pageable);
     Page<Notification> findAllByUserAndSeen(User user, Boolean seen, Pageable pageable);
+    List<Notification> findInboxByOrganization(Organization organization, Boolean seen, BigInteger cursor, BigInteger since, int limit);
+    List<Notification> findInboxByOrganizationForReader(Organization organization, BigInteger readWatermark, Boolean seen, BigInteger cursor, BigInteger since, int limit);
+    List<Notification> findInboxByMember(Member member, Boolean seen, BigInteger cursor, BigInteger since, int limit);
+    List<Notification> findInboxByUser(User user, Boolean seen, BigInteger cursor, BigInteger since, int limit);
+    BigInteger findReadWatermark(Member member);
+    BigInteger advanceReadWatermark(Member member, BigInteger lastSeenNotificationId);
+    long countUnreadByOrganization(Member reader);
+    long countUnreadByMember(Member member);
+    long countUnreadByUser(User user);
     Notification create(Notification notification);
+    boolean markAsSeen(Notification notification);
+    int markAllAsSeen(List<Notification> notifications);
+    int markAllAsSeenByUserUpTo(User user, BigInteger upToId);
+    int markAllAsSeenByMemberUpTo(Member member, BigInteger upToId);
+    int markAllAsSeenByOrganizationUpTo(Member reader, BigInteger upToId);
+    List<Notification> findAllByIds(Collection<BigInteger> ids);
+    int deleteAll(List<Notification> notifications);
+    int purgeSeenOlderThan(LocalDateTime cutoff, int limit);
+    int purgeOrganizationNotificationsOlderThan(LocalDateTime cutoff, int limit);
+    List<Notification> createAll(List<Notification> notifications);
     void sendNotificationToWebSocket(Notification notification);
-    void update(Notification notification);
+    List<Notification> claimPendingDelivery(int maxAttempts, int limit, Duration claimTimeout);
+    int markAllAsSent(Collection<BigInteger> ids);
+    int registerDeliveryFailures(Collection<BigInteger> ids);
+    Notification update(Notification notification);
     void delete(BigInteger id);
 
 
@@ -2,33 +2,70 @@ package com.keepitup.magjobbackend.notification.service.impl;
 
 import com.keepitup.magjobbackend.configuration.Constants;
 import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.notification.counter.NotificationCounters;
 import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.entity.NotificationReadWatermark;
+import com.keepitup.magjobbackend.notification.function.NotificationToResponseFunction;
+import com.keepitup.magjobbackend.notification.outbox.NotificationsCreatedEvent;
+import com.keepitup.magjobbackend.notification.respository.api.NotificationReadWatermarkRepository;
 import com.keepitup.magjobbackend.notification.respository.api.NotificationRepository;
+import com.keepitup.magjobbackend.notification.respository.specification.NotificationSpecifications;
 import com.keepitup.magjobbackend.notification.service.api.NotificationService;
 import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.user.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class NotificationDefaultService implements NotificationService {
     private final NotificationRepository notificationRepository;
+    private final NotificationReadWatermarkRepository notificationReadWatermarkRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationToResponseFunction notificationToResponseFunction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationCounters notificationCounters;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public NotificationDefaultService(NotificationRepository notificationRepository, SimpMessagingTemplate messagingTemplate) {
+    public NotificationDefaultService(
+            NotificationRepository notificationRepository,
+            NotificationReadWatermarkRepository notificationReadWatermarkRepository,
+            SimpMessagingTemplate messagingTemplate,
+            NotificationToResponseFunction notificationToResponseFunction,
+            ApplicationEventPublisher eventPublisher,
+            NotificationCounters notificationCounters,
+            PlatformTransactionManager transactionManager
+    ) {
         this.notificationRepository = notificationRepository;
+        this.notificationReadWatermarkRepository = notificationReadWatermarkRepository;
         this.messagingTemplate = messagingTemplate;
+        this.notificationToResponseFunction = notificationToResponseFunction;
+        this.eventPublisher = eventPublisher;
+        this.notificationCounters = notificationCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -87,14 +124,123 @@ public class NotificationDefaultService implements NotificationService {
     }
 
     @Override
+    public List<Notification> findInboxByOrganization(Organization organization, Boolean seen, BigInteger cursor, BigInteger since, int limit) {
+        return findInbox(NotificationSpecifications.hasOrganization(organization), seen, cursor, since, limit);
+    }
+
+    @Override
+    public List<Notification> findInboxByOrganizationForReader(Organization organization, BigInteger readWatermark, Boolean seen, BigInteger cursor, BigInteger since, int limit) {
+        Specification<Notification> recipient = NotificationSpecifications.hasOrganization(organization);
+
+        if (Boolean.TRUE.equals(seen)) {
+            recipient = recipient.and(NotificationSpecifications.idLessThanOrEqualTo(readWatermark));
+        } else if (Boolean.FALSE.equals(seen)) {
+            recipient = recipient.and(NotificationSpecifications.idGreaterThan(readWatermark));
+        }
+
+        return findInbox(recipient, null, cursor, since, limit);
+    }
+
+    @Override
+    public List<Notification> findInboxByMember(Member member, Boolean seen, BigInteger cursor, BigInteger since, int limit) {
+        return findInbox(NotificationSpecifications.hasMember(member), seen, cursor, since, limit);
+    }
+
+    @Override
+    public List<Notification> findInboxByUser(User user, Boolean seen, BigInteger cursor, BigInteger since, int limit) {
+        return findInbox(NotificationSpecifications.hasUser(user), seen, cursor, since, limit);
+    }
+
+    /**
+     * Without {@code since} returns notifications older than {@code cursor}, newest first. With
+     * {@code since} returns notifications newer than it, oldest first, so that a poller can pass
+     * the id of the last returned item as the next {@code since}.
+     * <p>
+     * Delta polling relies on ids being allocated in creation order across nodes, see
+     * {@link Notification#getId()}. Ids follow creation order, not commit order, so a notification
+     * whose transaction was still open when the previous poll ran is skipped by the next one if it
+     * got a lower id than a notification that poll returned.
+     */
+    private List<Notification> findInbox(Specification<Notification> recipient, Boolean seen, BigInteger cursor, BigInteger since, int limit) {
+        Specification<Notification> specification = recipient.and(NotificationSpecifications.hasSeen(seen));
+        Sort sort;
+
+        if (since != null) {
+            specification = specification.and(NotificationSpecifications.idGreaterThan(since));
+            sort = Sort.by(Sort.Direction.ASC, "id");
+        } else {
+            specification = specification.and(NotificationSpecifications.idLessThan(cursor));
+            sort = Sort.by(Sort.Direction.DESC, "id");
+        }
+
+        return notificationRepository.findBy(specification, query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public BigInteger findReadWatermark(Member member) {
+        return notificationReadWatermarkRepository.findByMember(member)
+                .map(NotificationReadWatermark::getLastSeenNotificationId)
+                .orElse(BigInteger.ZERO);
+    }
+
+    @Override
+    public BigInteger advanceReadWatermark(Member member, BigInteger lastSeenNotificationId) {
+        notificationReadWatermarkRepository.advance(member.getId(), member.getOrganization().getId(), lastSeenNotificationId);
+
+        return findReadWatermark(member);
+    }
+
+    @Override
+    public long countUnreadByOrganization(Member reader) {
+        return Math.max(0, notificationCounters.totalByOrganization(reader.getOrganization()) - findSeenCount(reader));
+    }
+
+    private long findSeenCount(Member reader) {
+        return notificationReadWatermarkRepository.findByMember(reader)
+                .map(NotificationReadWatermark::getSeenNotificationCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public long countUnreadByMember(Member member) {
+        return notificationCounters.unreadByMember(member);
+    }
+
+    @Override
+    public long countUnreadByUser(User user) {
+        return notificationCounters.unreadByUser(user);
+    }
+
+    @Override
+    @Transactional
     public Notification create(Notification notification) {
         notification.setDateOfCreation(LocalDateTime.now());
         notification.setSeen(false);
         notification.setSent(false);
 
-        sendNotificationToWebSocket(notification);
+        Notification created = notificationRepository.save(notification);
+        notificationCounters.created(List.of(created));
+        eventPublisher.publishEvent(new NotificationsCreatedEvent());
 
-        return notificationRepository.save(notification);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Notification> createAll(List<Notification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Notification notification : notifications) {
+            notification.setDateOfCreation(now);
+            notification.setSeen(false);
+            notification.setSent(false);
+        }
+
+        List<Notification> created = notificationRepository.saveAll(notifications);
+        notificationCounters.created(created);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent());
+
+        return created;
     }
 
     @Override
@@ -126,16 +272,199 @@ public class NotificationDefaultService implements NotificationService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
 
-      //  messagingTemplate.convertAndSend(destination, notification);
+        messagingTemplate.convertAndSend(destination, notificationToResponseFunction.apply(notification));
+    }
+
+    /**
+     * Claims the batch under a fresh token, so that only this caller delivers it. Notifications of a
+     * claimer that dies are picked up again once the claim times out.
+     */
+    @Override
+    public List<Notification> claimPendingDelivery(int maxAttempts, int limit, Duration claimTimeout) {
+        String claimedBy = UUID.randomUUID().toString();
+
+        if (notificationRepository.claimPendingDelivery(claimedBy, claimTimeout.toSeconds(), maxAttempts, limit) == 0) {
+            return List.of();
+        }
+
+        return notificationRepository.findAllByClaimedByAndSentOrderByIdAsc(claimedBy, false);
     }
 
     @Override
-    public void update(Notification notification) {
-        notificationRepository.save(notification);
+    public int markAllAsSent(Collection<BigInteger> ids) {
+        return notificationRepository.markAllAsSent(ids);
     }
 
     @Override
+    public int registerDeliveryFailures(Collection<BigInteger> ids) {
+        return notificationRepository.incrementDeliveryAttempts(ids);
+    }
+
+    @Override
+    @Transactional
+    public boolean markAsSeen(Notification notification) {
+        int updated = notificationRepository.markAsSeen(notification.getId());
+        notificationCounters.read(notification, updated);
+
+        return updated > 0;
+    }
+
+    /**
+     * Organization notifications are skipped, their read state is the member's read watermark.
+     * Rows are updated per recipient so that every counter is adjusted by exactly the number of
+     * its rows that changed.
+     */
+    @Override
+    @Transactional
+    public int markAllAsSeen(List<Notification> notifications) {
+        int updated = 0;
+
+        for (List<Notification> recipientNotifications : groupByRecipient(notifications).values()) {
+            Notification notification = recipientNotifications.get(0);
+
+            if (notification.getOrganization() != null) {
+                continue;
+            }
+
+            int recipientUpdated = notificationRepository.markAllAsSeen(
+                    recipientNotifications.stream().map(Notification::getId).toList()
+            );
+            notificationCounters.read(notification, recipientUpdated);
+            updated += recipientUpdated;
+        }
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int markAllAsSeenByUserUpTo(User user, BigInteger upToId) {
+        int updated = notificationRepository.markAllAsSeenByUserUpTo(user, upToId);
+        notificationCounters.readByUser(user, updated);
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int markAllAsSeenByMemberUpTo(Member member, BigInteger upToId) {
+        int updated = notificationRepository.markAllAsSeenByMemberUpTo(member, upToId);
+        notificationCounters.readByMember(member, updated);
+
+        return updated;
+    }
+
+    @Override
+    public int markAllAsSeenByOrganizationUpTo(Member reader, BigInteger upToId) {
+        long seenBefore = findSeenCount(reader);
+        notificationReadWatermarkRepository.advance(reader.getId(), reader.getOrganization().getId(), upToId);
+
+        return Math.toIntExact(Math.max(0, findSeenCount(reader) - seenBefore));
+    }
+
+    @Override
+    public List<Notification> findAllByIds(Collection<BigInteger> ids) {
+        return notificationRepository.findAllById(ids);
+    }
+
+    /**
+     * Deletes per recipient, each recipient in its own transaction together with its counter and
+     * read watermark updates. Returns the number of rows actually deleted, which excludes
+     * notifications deleted concurrently.
+     */
+    @Override
+    public int deleteAll(List<Notification> notifications) {
+        int deleted = 0;
+
+        for (List<Notification> recipientNotifications : groupByRecipient(notifications).values()) {
+            Integer recipientDeleted = transactionTemplate.execute(status -> deleteRecipientNotifications(recipientNotifications));
+            deleted += recipientDeleted == null ? 0 : recipientDeleted;
+        }
+
+        return deleted;
+    }
+
+    private int deleteRecipientNotifications(List<Notification> recipientNotifications) {
+        Notification notification = recipientNotifications.get(0);
+        List<BigInteger> ids = recipientNotifications.stream().map(Notification::getId).toList();
+
+        if (notification.getOrganization() != null) {
+            notificationReadWatermarkRepository.forgetSeenNotifications(notification.getOrganization(), ids);
+            int deleted = notificationRepository.deleteAllByIds(ids);
+            notificationCounters.deleted(notification, deleted);
+
+            return deleted;
+        }
+
+        int deletedUnseen = notificationRepository.deleteAllByIdsAndSeen(ids, false);
+        notificationCounters.deleted(notification, deletedUnseen);
+
+        return deletedUnseen + notificationRepository.deleteAllByIds(ids);
+    }
+
+    /**
+     * Seen user and member notifications are not part of any counter, they are deleted by id
+     * without being loaded.
+     */
+    @Override
+    public int purgeSeenOlderThan(LocalDateTime cutoff, int limit) {
+        List<BigInteger> ids = notificationRepository.findSeenIdsCreatedBefore(cutoff, Limit.of(limit));
+
+        if (!ids.isEmpty()) {
+            notificationRepository.deleteAllByIdInBatch(ids);
+        }
+
+        return ids.size();
+    }
+
+    @Override
+    public int purgeOrganizationNotificationsOlderThan(LocalDateTime cutoff, int limit) {
+        List<BigInteger> ids = notificationRepository.findOrganizationIdsCreatedBefore(cutoff, Limit.of(limit));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return deleteAll(notificationRepository.findAllById(ids));
+    }
+
+    private Map<String, List<Notification>> groupByRecipient(List<Notification> notifications) {
+        Map<String, List<Notification>> groups = new LinkedHashMap<>();
+
+        for (Notification notification : notifications) {
+            String key;
+
+            if (notification.getUser() != null) {
+                key = "user:" + notification.getUser().getId();
+            } else if (notification.getMember() != null) {
+                key = "member:" + notification.getMember().getId();
+            } else if (notification.getOrganization() != null) {
+                key = "organization:" + notification.getOrganization().getId();
+            } else {
+                key = "";
+            }
+
+            groups.computeIfAbsent(key, ignored -> new ArrayList<>()).add(notification);
+        }
+
+        return groups;
+    }
+
+    @Override
+    public Notification update(Notification notification) {
+        return notificationRepository.save(notification);
+    }
+
+    @Override
+    @Transactional
     public void delete(BigInteger id) {
-        notificationRepository.findById(id).ifPresent(notificationRepository::delete);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            notificationCounters.deleted(List.of(notification));
+
+            if (notification.getOrganization() != null) {
+                notificationReadWatermarkRepository.forgetSeenNotification(notification.getOrganization(), id);
+            }
+        });
     }
 }
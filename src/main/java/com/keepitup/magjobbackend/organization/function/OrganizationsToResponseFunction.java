@@ -6,14 +6,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 @Component
-public class OrganizationsToResponseFunction implements BiFunction<Page<Organization>, Integer, GetOrganizationsResponse> {
+public class OrganizationsToResponseFunction implements Function<Page<Organization>, GetOrganizationsResponse> {
 
     @Override
-    public GetOrganizationsResponse apply(Page<Organization> entities, Integer count) {
+    public GetOrganizationsResponse apply(Page<Organization> entities) {
         return GetOrganizationsResponse.builder()
                 .organizations(entities.stream()
                         .map(organization -> GetOrganizationsResponse.Organization.builder()
@@ -21,7 +20,7 @@ public class OrganizationsToResponseFunction implements BiFunction<Page<Organiza
                                 .name(organization.getName())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
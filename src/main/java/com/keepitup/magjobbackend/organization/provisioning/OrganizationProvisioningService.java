@@ -0,0 +1,145 @@
+package com.keepitup.magjobbackend.organization.provisioning;
+
+import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chat.repository.api.ChatRepository;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
+import com.keepitup.magjobbackend.chatmember.repository.api.ChatMemberRepository;
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.member.repository.api.MemberRepository;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.organization.repository.api.OrganizationRepository;
+import com.keepitup.magjobbackend.role.entity.Role;
+import com.keepitup.magjobbackend.role.repository.api.RoleRepository;
+import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
+import com.keepitup.magjobbackend.rolemember.repository.api.RoleMemberRepository;
+import com.keepitup.magjobbackend.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates a new organization together with its default roles, the owner's membership and the main chat.
+ * The whole aggregate is built in memory and written in a single transaction, so Hibernate can batch the
+ * inserts and a failure never leaves a half-built organization behind. The Keycloak groups are queued
+ * in the same transaction and created by the Keycloak sync worker once it has committed.
+ */
+@Service
+public class OrganizationProvisioningService {
+    private final OrganizationRepository organizationRepository;
+    private final RoleRepository roleRepository;
+    private final MemberRepository memberRepository;
+    private final RoleMemberRepository roleMemberRepository;
+    private final ChatRepository chatRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final KeycloakSyncService keycloakSyncService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public OrganizationProvisioningService(
+            OrganizationRepository organizationRepository,
+            RoleRepository roleRepository,
+            MemberRepository memberRepository,
+            RoleMemberRepository roleMemberRepository,
+            ChatRepository chatRepository,
+            ChatMemberRepository chatMemberRepository,
+            KeycloakSyncService keycloakSyncService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.organizationRepository = organizationRepository;
+        this.roleRepository = roleRepository;
+        this.memberRepository = memberRepository;
+        this.roleMemberRepository = roleMemberRepository;
+        this.chatRepository = chatRepository;
+        this.chatMemberRepository = chatMemberRepository;
+        this.keycloakSyncService = keycloakSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Organization provision(Organization organization, User owner) {
+        return transactionTemplate.execute(status -> persist(organization, owner));
+    }
+
+    private Organization persist(Organization organization, User owner) {
+        organization.setDateOfCreation(ZonedDateTime.now());
+
+        Role ownerRole = Role.builder()
+                .name(Constants.ROLE_NAME_OWNER)
+                .organization(organization)
+                .canManageTasks(true)
+                .canManageRoles(true)
+                .canManageInvitations(true)
+                .canManageAnnouncements(true)
+                .isAdmin(true) // TODO delete in future; For testing purposes Owner will be also Admin
+                .build();
+
+        Role moderatorRole = Role.builder()
+                .name(Constants.ROLE_NAME_MODERATOR)
+                .organization(organization)
+                .canManageTasks(true)
+                .canManageRoles(false)
+                .canManageInvitations(true)
+                .canManageAnnouncements(true)
+                .build();
+
+        Role memberRole = Role.builder()
+                .name(Constants.ROLE_NAME_MEMBER)
+                .organization(organization)
+                .canManageTasks(false)
+                .canManageRoles(false)
+                .canManageInvitations(false)
+                .canManageAnnouncements(false)
+                .build();
+
+        Member ownerMember = Member.builder()
+                .pseudonym(Constants.ROLE_NAME_OWNER)
+                .organization(organization)
+                .user(owner)
+                .isStillMember(true)
+                .build();
+
+        RoleMember ownerRoleMember = RoleMember.builder()
+                .role(ownerRole)
+                .member(ownerMember)
+                .build();
+
+        Chat mainChat = Chat.builder()
+                .title("Main chat - " + organization.getName())
+                .organization(organization)
+                .dateOfCreation(LocalDate.now())
+                .build();
+
+        ChatMember ownerChatMember = ChatMember.builder()
+                .chat(mainChat)
+                .nickname(ownerMember.getPseudonym())
+                .isInvitationAccepted(true)
+                .member(ownerMember)
+                .build();
+
+        List<Role> roles = new ArrayList<>(List.of(ownerRole, moderatorRole, memberRole));
+        organization.setRoles(roles);
+        organization.setMembers(new ArrayList<>(List.of(ownerMember)));
+        organization.setChats(new ArrayList<>(List.of(mainChat)));
+        mainChat.setChatMembers(new ArrayList<>(List.of(ownerChatMember)));
+        mainChat.setChatAdministrators(new ArrayList<>(List.of(ownerChatMember)));
+
+        // Parents first; every id comes from a pooled sequence, so nothing is written before the flush at commit
+        Organization createdOrganization = organizationRepository.save(organization);
+        roleRepository.saveAll(roles);
+        memberRepository.save(ownerMember);
+        roleMemberRepository.save(ownerRoleMember);
+        chatRepository.save(mainChat);
+        chatMemberRepository.save(ownerChatMember);
+
+        keycloakSyncService.enqueueOrganizationGroups(createdOrganization, owner);
+
+        return createdOrganization;
+    }
+}
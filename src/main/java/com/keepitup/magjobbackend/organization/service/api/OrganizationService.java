@@ -20,9 +20,9 @@ public interface OrganizationService {
 
     Page<Organization> findAllByDateOfCreation(ZonedDateTime dateOfCreation, Pageable pageable);
 
-    void create(Organization organization);
+    Organization create(Organization organization);
 
     void delete(BigInteger id);
 
-    void update(Organization organization);
+    Organization update(Organization organization);
 }
@@ -48,9 +48,9 @@ public class OrganizationDefaultService implements OrganizationService {
     }
 
     @Override
-    public void create(Organization organization) {
+    public Organization create(Organization organization) {
         organization.setDateOfCreation(ZonedDateTime.now());
-        organizationRepository.save(organization);
+        return organizationRepository.save(organization);
     }
 
     @Override
@@ -59,7 +59,7 @@ public class OrganizationDefaultService implements OrganizationService {
     }
 
     @Override
-    public void update(Organization organization) {
-        organizationRepository.save(organization);
+    public Organization update(Organization organization) {
+        return organizationRepository.save(organization);
     }
 }
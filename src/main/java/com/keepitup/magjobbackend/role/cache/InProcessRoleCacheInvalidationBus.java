@@ -0,0 +1,22 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus that delivers invalidations synchronously to local listeners only.
+ */
+public class InProcessRoleCacheInvalidationBus implements RoleCacheInvalidationBus {
+    private final List<Consumer<RoleCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(RoleCacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<RoleCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,80 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keepitup.magjobbackend.broker.PostgresNotificationChannel;
+import lombok.extern.java.Log;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Cluster-wide bus that sends invalidations to every node over a PostgreSQL notification channel.
+ * Local listeners are invoked synchronously on publish, so the publishing node never serves a stale
+ * entry; the copy of the notification that comes back to the publishing node is skipped.
+ */
+@Log
+public class PostgresRoleCacheInvalidationBus implements RoleCacheInvalidationBus {
+    private final PostgresNotificationChannel channel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<RoleCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public PostgresRoleCacheInvalidationBus(PostgresNotificationChannel channel) {
+        this.channel = channel;
+        channel.subscribe(this::receive);
+    }
+
+    @Override
+    public void publish(RoleCacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+        channel.send(encode(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<RoleCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    public void close() {
+        channel.close();
+    }
+
+    private void receive(String notification) {
+        Map<?, ?> fields;
+        try {
+            fields = objectMapper.readValue(notification, Map.class);
+        } catch (JsonProcessingException e) {
+            log.log(Level.WARNING, "Skipping malformed role cache invalidation", e);
+            return;
+        }
+
+        if (nodeId.equals(fields.get("origin"))) {
+            return;
+        }
+
+        RoleCacheInvalidation invalidation = new RoleCacheInvalidation(
+                new BigInteger((String) fields.get("organizationId")),
+                (String) fields.get("roleName")
+        );
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    String encode(RoleCacheInvalidation invalidation) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("origin", nodeId);
+        fields.put("organizationId", invalidation.getOrganizationId().toString());
+        fields.put("roleName", invalidation.getRoleName());
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import lombok.Value;
+
+import java.math.BigInteger;
+
+/**
+ * Invalidation message for {@link RolePermissionCache}. A {@code null} role name invalidates
+ * every cached role of the organization.
+ */
+@Value
+public class RoleCacheInvalidation {
+    BigInteger organizationId;
+    String roleName;
+
+    public static RoleCacheInvalidation ofRole(BigInteger organizationId, String roleName) {
+        return new RoleCacheInvalidation(organizationId, roleName);
+    }
+
+    public static RoleCacheInvalidation ofOrganization(BigInteger organizationId) {
+        return new RoleCacheInvalidation(organizationId, null);
+    }
+
+    public boolean isOrganizationWide() {
+        return roleName == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Propagates role cache invalidations to every node running the application. Implementations
+ * must also deliver published invalidations to listeners registered on the publishing node.
+ */
+public interface RoleCacheInvalidationBus {
+    void publish(RoleCacheInvalidation invalidation);
+
+    void subscribe(Consumer<RoleCacheInvalidation> listener);
+}
@@ -0,0 +1,35 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.keepitup.magjobbackend.broker.PostgresNotificationChannel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class RoleCacheInvalidationBusConfig {
+
+    /**
+     * @param mode {@code in-process} for a single node, {@code postgres} to invalidate every node sharing
+     *             the database
+     */
+    @Bean
+    public RoleCacheInvalidationBus roleCacheInvalidationBus(
+            @Value("${keepitup.magjob.role-cache.invalidation-bus:in-process}") String mode,
+            @Value("${keepitup.magjob.role-cache.postgres.channel:magjob_role_cache}") String channel,
+            @Value("${keepitup.magjob.role-cache.postgres.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${keepitup.magjob.role-cache.postgres.reconnect-delay:PT5S}") Duration reconnectDelay,
+            ObjectProvider<DataSource> dataSource
+    ) {
+        return switch (mode) {
+            case "in-process" -> new InProcessRoleCacheInvalidationBus();
+            case "postgres" -> new PostgresRoleCacheInvalidationBus(new PostgresNotificationChannel(
+                    dataSource.getObject(), channel, pollTimeout, reconnectDelay));
+            default -> throw new IllegalStateException("Unknown role cache invalidation bus: " + mode
+                    + ", expected in-process or postgres");
+        };
+    }
+}
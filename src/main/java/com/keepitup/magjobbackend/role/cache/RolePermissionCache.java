@@ -0,0 +1,141 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.keepitup.magjobbackend.role.entity.Role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, time-limited cache of {@code (organizationId, roleName) -> RolePermissions}.
+ * Entries are evicted in least-recently-used order once the cache is full and expire after the
+ * configured time to live. Invalidations go through the {@link RoleCacheInvalidationBus} so that
+ * every node drops its copy.
+ */
+@Component
+public class RolePermissionCache {
+    private final RoleCacheInvalidationBus invalidationBus;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Key, Entry> entries;
+    private long generation;
+
+    @Autowired
+    public RolePermissionCache(
+            RoleCacheInvalidationBus invalidationBus,
+            @Value("${keepitup.magjob.role-cache.maximum-size:10000}") int maximumSize,
+            @Value("${keepitup.magjob.role-cache.time-to-live:PT10M}") Duration timeToLive
+    ) {
+        this(invalidationBus, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    RolePermissionCache(
+            RoleCacheInvalidationBus invalidationBus,
+            int maximumSize,
+            Duration timeToLive,
+            LongSupplier nanoClock
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > RolePermissionCache.this.maximumSize;
+            }
+        };
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Returns permissions of the requested roles, loading only the roles that are not cached.
+     * Roles that do not exist are absent from the result.
+     */
+    public Map<String, RolePermissions> getAll(
+            BigInteger organizationId,
+            Collection<String> roleNames,
+            Function<Collection<String>, Collection<Role>> loader
+    ) {
+        Map<String, RolePermissions> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        long loadGeneration;
+
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            for (String roleName : roleNames) {
+                Key key = new Key(organizationId, roleName);
+                Entry entry = entries.get(key);
+                if (entry != null && entry.getExpiresAt() - now > 0) {
+                    result.put(roleName, entry.getPermissions());
+                } else {
+                    if (entry != null) {
+                        entries.remove(key);
+                    }
+                    missing.add(roleName);
+                }
+            }
+            loadGeneration = generation;
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, RolePermissions> loaded = new HashMap<>();
+        for (Role role : loader.apply(missing)) {
+            loaded.put(role.getName(), RolePermissions.of(role));
+        }
+        result.putAll(loaded);
+
+        synchronized (this) {
+            // Skip caching if an invalidation raced with the load, the values may already be stale.
+            if (loadGeneration == generation) {
+                long expiresAt = nanoClock.getAsLong() + timeToLiveNanos;
+                loaded.forEach((roleName, permissions) ->
+                        entries.put(new Key(organizationId, roleName), new Entry(permissions, expiresAt)));
+            }
+        }
+
+        return result;
+    }
+
+    public void evict(BigInteger organizationId, String roleName) {
+        invalidationBus.publish(RoleCacheInvalidation.ofRole(organizationId, roleName));
+    }
+
+    public void evictOrganization(BigInteger organizationId) {
+        invalidationBus.publish(RoleCacheInvalidation.ofOrganization(organizationId));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void onInvalidation(RoleCacheInvalidation invalidation) {
+        generation++;
+        if (invalidation.isOrganizationWide()) {
+            entries.keySet().removeIf(key -> key.getOrganizationId().equals(invalidation.getOrganizationId()));
+        } else {
+            entries.remove(new Key(invalidation.getOrganizationId(), invalidation.getRoleName()));
+        }
+    }
+
+    @lombok.Value
+    private static class Key {
+        BigInteger organizationId;
+        String roleName;
+    }
+
+    @lombok.Value
+    private static class Entry {
+        RolePermissions permissions;
+        long expiresAt;
+    }
+}
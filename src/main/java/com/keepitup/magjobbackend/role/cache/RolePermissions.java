@@ -0,0 +1,18 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.keepitup.magjobbackend.configuration.Permission;
+import com.keepitup.magjobbackend.role.entity.Role;
+import lombok.Value;
+
+/**
+ * Permission flags of a single role, detached from the JPA entity so it can be cached.
+ */
+@Value
+public class RolePermissions {
+    int permissions;
+    boolean admin;
+
+    public static RolePermissions of(Role role) {
+        return new RolePermissions(Permission.maskOf(role), Boolean.TRUE.equals(role.getIsAdmin()));
+    }
+}
@@ -1,8 +1,8 @@
 package com.keepitup.magjobbackend.role.controller.impl;
 
 import com.keepitup.magjobbackend.configuration.Constants;
-import com.keepitup.magjobbackend.configuration.KeycloakController;
 import com.keepitup.magjobbackend.configuration.SecurityService;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
 import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.organization.service.impl.OrganizationDefaultService;
 import com.keepitup.magjobbackend.role.controller.api.RoleController;
@@ -11,8 +11,8 @@ import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.role.function.*;
 import com.keepitup.magjobbackend.role.service.impl.RoleDefaultService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ResponseStatusException;
@@ -28,7 +28,7 @@ public class RoleDefaultController implements RoleController {
     private final RolesToResponseFunction rolesToResponseFunction;
     private final RequestToRoleFunction requestToRoleFunction;
     private final UpdateRoleWithRequestFunction updateRoleWithRequestFunction;
-    private final KeycloakController keycloakController;
+    private final KeycloakSyncService keycloakSyncService;
     private final RolesByOrganizationToResponseFunction rolesByOrganizationToResponseFunction;
     private final SecurityService securityService;
 
@@ -41,7 +41,7 @@ public class RoleDefaultController implements RoleController {
             RequestToRoleFunction requestToRoleFunction,
             UpdateRoleWithRequestFunction updateRoleWithRequestFunction,
             RolesByOrganizationToResponseFunction rolesByOrganizationToResponseFunction,
-            KeycloakController keycloakController,
+            KeycloakSyncService keycloakSyncService,
             SecurityService securityService
     ) {
         this.roleService = roleService;
@@ -50,7 +50,7 @@ public class RoleDefaultController implements RoleController {
         this.rolesToResponseFunction = rolesToResponseFunction;
         this.requestToRoleFunction = requestToRoleFunction;
         this.updateRoleWithRequestFunction = updateRoleWithRequestFunction;
-        this.keycloakController = keycloakController;
+        this.keycloakSyncService = keycloakSyncService;
         this.rolesByOrganizationToResponseFunction = rolesByOrganizationToResponseFunction;
         this.securityService = securityService;
     }
@@ -62,8 +62,8 @@ public class RoleDefaultController implements RoleController {
         }
   
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = roleService.findAll().size();
-        return rolesToResponseFunction.apply(roleService.findAll(pageRequest), count);
+        Page<Role> roles = roleService.findAll(pageRequest);
+        return rolesToResponseFunction.apply(roles);
     }
 
     @Override
@@ -90,9 +90,9 @@ public class RoleDefaultController implements RoleController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = roleService.findAllByOrganization(organization, Pageable.unpaged()).getNumberOfElements();
+        Page<Role> roles = roleService.findAllByOrganization(organization, pageRequest);
 
-        return rolesByOrganizationToResponseFunction.apply(roleService.findAllByOrganization(organization, pageRequest), count);
+        return rolesByOrganizationToResponseFunction.apply(roles);
     }
 
     @Override
@@ -106,20 +106,18 @@ public class RoleDefaultController implements RoleController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        boolean roleExists = roleService.findAllByOrganization(organization, Pageable.unpaged())
-                .stream().anyMatch(role -> role.getName().equalsIgnoreCase(postRoleRequest.getName()));
-
-        if (roleExists) {
+        if (roleService.existsByOrganizationAndNameIgnoreCase(organization, postRoleRequest.getName())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
         }
 
-        roleService.create(requestToRoleFunction.apply(postRoleRequest));
+        Role role = requestToRoleFunction.apply(postRoleRequest);
+        role.setOrganization(organization);
 
-        keycloakController.addChildGroupToKeycloak(organization.getName(), postRoleRequest.getName());
+        Role createdRole = roleService.create(role);
 
-        return roleService.findByName(postRoleRequest.getName())
-                .map(roleToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        keycloakSyncService.enqueueGroupCreation(organization, createdRole.getName());
+
+        return roleToResponseFunction.apply(createdRole);
     }
 
     @Override
@@ -136,11 +134,7 @@ public class RoleDefaultController implements RoleController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        roleService.update(updateRoleWithRequestFunction.apply(role, patchRoleRequest));
-
-        return roleService.find(id)
-                .map(roleToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return roleToResponseFunction.apply(roleService.update(updateRoleWithRequestFunction.apply(role, patchRoleRequest)));
     }
 
     @Override
@@ -157,7 +151,7 @@ public class RoleDefaultController implements RoleController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        keycloakController.deleteChildGroupFromKeycloak(organization.getName(), role.getName());
+        keycloakSyncService.enqueueGroupDeletion(organization, role.getName());
 
         roleService.delete(id);
     }
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.role.entity.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class RolesByOrganizationToResponseFunction implements BiFunction<Page<Role>, Integer, GetRolesByOrganizationResponse> {
+public class RolesByOrganizationToResponseFunction implements Function<Page<Role>, GetRolesByOrganizationResponse> {
     @Override
-    public GetRolesByOrganizationResponse apply(Page<Role> roles, Integer count) {
+    public GetRolesByOrganizationResponse apply(Page<Role> roles) {
         return GetRolesByOrganizationResponse.builder()
                 .roles(roles.stream()
                         .map(role -> GetRolesByOrganizationResponse.Role.builder()
@@ -31,7 +31,7 @@ public class RolesByOrganizationToResponseFunction implements BiFunction<Page<Ro
                                         .toList())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(roles.getTotalElements()))
                 .build();
     }
 }
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.role.entity.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class RolesToResponseFunction implements BiFunction<Page<Role>, Integer, GetRolesResponse> {
+public class RolesToResponseFunction implements Function<Page<Role>, GetRolesResponse> {
     @Override
-    public GetRolesResponse apply(Page<Role> roles, Integer count) {
+    public GetRolesResponse apply(Page<Role> roles) {
         return GetRolesResponse.builder()
                 .roles(roles.stream()
                         .map(role -> GetRolesResponse.Role.builder()
@@ -24,7 +24,7 @@ public class RolesToResponseFunction implements BiFunction<Page<Role>, Integer,
                                 .canManageAnnouncements(role.getCanManageAnnouncements())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(roles.getTotalElements()))
                 .build();
     }
 }
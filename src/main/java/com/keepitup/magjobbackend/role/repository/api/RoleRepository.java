@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,5 +20,13 @@ public interface RoleRepository extends JpaRepository<Role, BigInteger> {
 
     Optional<Role> findByNameAndOrganization(String name, Organization organization);
 
+    Optional<Role> findByOrganizationNameAndName(String organizationName, String name);
+
+    List<Role> findAllByOrganizationAndNameIn(Organization organization, Collection<String> names);
+
+    List<Role> findAllByOrganizationIdAndNameIn(BigInteger organizationId, Collection<String> names);
+
     Page<Role> findAllByOrganization(Organization organization, Pageable pageable);
+
+    boolean existsByOrganizationAndNameIgnoreCase(Organization organization, String name);
 }
@@ -1,12 +1,15 @@
 package com.keepitup.magjobbackend.role.service.api;
 
 import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.role.cache.RolePermissions;
 import com.keepitup.magjobbackend.role.entity.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RoleService {
@@ -18,15 +21,27 @@ public interface RoleService {
 
     Optional<Role> findByNameAndOrganization(String name, Organization organization);
 
+    Optional<Role> findByOrganizationNameAndName(String organizationName, String name);
+
+    List<Role> findAllByOrganizationAndNameIn(Organization organization, Collection<String> names);
+
+    Map<String, RolePermissions> findPermissionsByOrganizationAndNameIn(Organization organization, Collection<String> names);
+
     List<Role> findAll();
 
     Page<Role> findAll(Pageable pageable);
 
     Page<Role> findAllByOrganization(Organization organization, Pageable pageable);
 
-    void create(Role role);
+    boolean existsByOrganizationAndNameIgnoreCase(Organization organization, String name);
+
+    Role create(Role role);
 
     void delete(BigInteger id);
 
-    void update(Role role);
+    Role update(Role role);
+
+    void evictPermissions(Organization organization);
+
+    void updateExternalIds(BigInteger organizationId, Map<String, String> roleName2ExternalId);
 }
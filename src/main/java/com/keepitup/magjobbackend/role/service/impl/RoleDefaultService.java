@@ -1,6 +1,8 @@
 package com.keepitup.magjobbackend.role.service.impl;
 
 import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.role.cache.RolePermissionCache;
+import com.keepitup.magjobbackend.role.cache.RolePermissions;
 import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.role.repository.api.RoleRepository;
 import com.keepitup.magjobbackend.role.service.api.RoleService;
@@ -10,16 +12,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class RoleDefaultService implements RoleService {
     private final RoleRepository roleRepository;
+    private final RolePermissionCache rolePermissionCache;
 
     @Autowired
-    public RoleDefaultService(RoleRepository roleRepository) {
+    public RoleDefaultService(RoleRepository roleRepository, RolePermissionCache rolePermissionCache) {
         this.roleRepository = roleRepository;
+        this.rolePermissionCache = rolePermissionCache;
     }
 
     @Override
@@ -42,6 +48,25 @@ public class RoleDefaultService implements RoleService {
         return roleRepository.findByNameAndOrganization(name, organization);
     }
 
+    @Override
+    public Optional<Role> findByOrganizationNameAndName(String organizationName, String name) {
+        return roleRepository.findByOrganizationNameAndName(organizationName, name);
+    }
+
+    @Override
+    public List<Role> findAllByOrganizationAndNameIn(Organization organization, Collection<String> names) {
+        return roleRepository.findAllByOrganizationAndNameIn(organization, names);
+    }
+
+    @Override
+    public Map<String, RolePermissions> findPermissionsByOrganizationAndNameIn(Organization organization, Collection<String> names) {
+        return rolePermissionCache.getAll(
+                organization.getId(),
+                names,
+                missingNames -> roleRepository.findAllByOrganizationAndNameIn(organization, missingNames)
+        );
+    }
+
     @Override
     public List<Role> findAll() {
         return roleRepository.findAll();
@@ -58,17 +83,50 @@ public class RoleDefaultService implements RoleService {
     }
 
     @Override
-    public void create(Role role) {
-        roleRepository.save(role);
+    public boolean existsByOrganizationAndNameIgnoreCase(Organization organization, String name) {
+        return roleRepository.existsByOrganizationAndNameIgnoreCase(organization, name);
+    }
+
+    @Override
+    public Role create(Role role) {
+        Role created = roleRepository.save(role);
+        evictPermissions(role);
+        return created;
     }
 
     @Override
     public void delete(BigInteger id) {
-        roleRepository.findById(id).ifPresent(roleRepository::delete);
+        roleRepository.findById(id).ifPresent(role -> {
+            roleRepository.delete(role);
+            evictPermissions(role);
+        });
+    }
+
+    @Override
+    public Role update(Role role) {
+        Role updated = roleRepository.save(role);
+        // The role may have been renamed, so the entry under its previous name has to go as well.
+        if (role.getOrganization() != null) {
+            rolePermissionCache.evictOrganization(role.getOrganization().getId());
+        }
+        return updated;
     }
 
     @Override
-    public void update(Role role) {
-        roleRepository.save(role);
+    public void evictPermissions(Organization organization) {
+        rolePermissionCache.evictOrganization(organization.getId());
+    }
+
+    @Override
+    public void updateExternalIds(BigInteger organizationId, Map<String, String> roleName2ExternalId) {
+        List<Role> roles = roleRepository.findAllByOrganizationIdAndNameIn(organizationId, roleName2ExternalId.keySet());
+        roles.forEach(role -> role.setExternalId(roleName2ExternalId.get(role.getName())));
+        roleRepository.saveAll(roles);
+    }
+
+    private void evictPermissions(Role role) {
+        if (role.getOrganization() != null) {
+            rolePermissionCache.evict(role.getOrganization().getId(), role.getName());
+        }
     }
 }
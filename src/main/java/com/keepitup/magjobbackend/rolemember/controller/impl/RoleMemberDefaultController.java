@@ -1,11 +1,12 @@
 package com.keepitup.magjobbackend.rolemember.controller.impl;
 
 import com.keepitup.magjobbackend.configuration.Constants;
-import com.keepitup.magjobbackend.configuration.KeycloakController;
 import com.keepitup.magjobbackend.configuration.SecurityService;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
 import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.member.service.impl.MemberDefaultService;
 import com.keepitup.magjobbackend.notification.entity.Notification;
+import com.keepitup.magjobbackend.notification.fanout.NotificationFanOut;
 import com.keepitup.magjobbackend.notification.service.impl.NotificationDefaultService;
 import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.role.entity.Role;
@@ -24,16 +25,20 @@ import com.keepitup.magjobbackend.rolemember.service.impl.RoleMemberDefaultServi
 import com.keepitup.magjobbackend.user.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
 public class RoleMemberDefaultController implements RoleMemberController {
@@ -41,10 +46,11 @@ public class RoleMemberDefaultController implements RoleMemberController {
     private final RoleDefaultService roleService;
     private final MemberDefaultService memberService;
     private final NotificationDefaultService notificationService;
+    private final NotificationFanOut notificationFanOut;
     private final RoleMemberToResponseFunction roleMemberToResponseFunction;
     private final RoleMembersToResponseFunction roleMembersToResponseFunction;
     private final RequestToRoleMemberFunction requestToRoleMemberFunction;
-    private final KeycloakController keycloakController;
+    private final KeycloakSyncService keycloakSyncService;
     private final RequestToRoleMembersFunction requestToRoleMembersFunction;
     private final SecurityService securityService;
 
@@ -54,10 +60,11 @@ public class RoleMemberDefaultController implements RoleMemberController {
             RoleDefaultService roleService,
             MemberDefaultService memberService,
             NotificationDefaultService notificationService,
+            NotificationFanOut notificationFanOut,
             RoleMemberToResponseFunction roleMemberToResponseFunction,
             RoleMembersToResponseFunction roleMembersToResponseFunction,
             RequestToRoleMemberFunction requestToRoleMemberFunction,
-            KeycloakController keycloakController,
+            KeycloakSyncService keycloakSyncService,
             RequestToRoleMembersFunction requestToRoleMembersFunction,
             SecurityService securityService
     ) {
@@ -65,10 +72,11 @@ public class RoleMemberDefaultController implements RoleMemberController {
         this.roleService = roleService;
         this.memberService = memberService;
         this.notificationService = notificationService;
+        this.notificationFanOut = notificationFanOut;
         this.roleMemberToResponseFunction = roleMemberToResponseFunction;
         this.roleMembersToResponseFunction = roleMembersToResponseFunction;
         this.requestToRoleMemberFunction = requestToRoleMemberFunction;
-        this.keycloakController = keycloakController;
+        this.keycloakSyncService = keycloakSyncService;
         this.requestToRoleMembersFunction = requestToRoleMembersFunction;
         this.securityService = securityService;
     }
@@ -80,8 +88,8 @@ public class RoleMemberDefaultController implements RoleMemberController {
         }
   
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = roleMemberService.findAll().size();
-        return roleMembersToResponseFunction.apply(roleMemberService.findAll(pageRequest), count);
+        Page<RoleMember> roleMembers = roleMemberService.findAll(pageRequest);
+        return roleMembersToResponseFunction.apply(roleMembers);
     }
 
     @Override
@@ -109,9 +117,9 @@ public class RoleMemberDefaultController implements RoleMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = roleMemberService.findAllByRole(role, Pageable.unpaged()).getNumberOfElements();
+        Page<RoleMember> roleMembers = roleMemberService.findAllByRole(role, pageRequest);
 
-        return roleMembersToResponseFunction.apply(roleMemberService.findAllByRole(role, pageRequest), count);
+        return roleMembersToResponseFunction.apply(roleMembers);
     }
 
     @Override
@@ -128,9 +136,9 @@ public class RoleMemberDefaultController implements RoleMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Integer count = roleMemberService.findAllByMember(member, Pageable.unpaged()).getNumberOfElements();
+        Page<RoleMember> roleMembers = roleMemberService.findAllByMember(member, pageRequest);
 
-        return roleMembersToResponseFunction.apply(roleMemberService.findAllByMember(member, pageRequest), count);
+        return roleMembersToResponseFunction.apply(roleMembers);
     }
 
     @Override
@@ -152,79 +160,80 @@ public class RoleMemberDefaultController implements RoleMemberController {
 
         String roleName = role.getName();
 
-        Optional<Page<Role>> memberRoles = roleMemberService.findAllRolesByMember(postRoleMemberRequest.getMember(), Pageable.unpaged());
-
         if (!securityService.hasPermission(organization, Constants.PERMISSION_NAME_CAN_MANAGE_ROLES)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        if (memberRoles.isEmpty() || memberRoles.get().stream().toList().contains(role)) {
+        if (roleMemberService.findByMemberAndRole(member, role).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
         }
 
-        roleMemberService.create(requestToRoleMemberFunction.apply(postRoleMemberRequest));
+        RoleMember roleMember = requestToRoleMemberFunction.apply(postRoleMemberRequest);
+        roleMember.setMember(member);
+        roleMember.setRole(role);
+
+        RoleMember createdRoleMember = roleMemberService.create(roleMember);
+        roleService.evictPermissions(organization);
 
-        keycloakController.addUserToKeycloakGroup(organization.getName(), user.getId(), roleName);
+        keycloakSyncService.enqueueUserAddition(organization, roleName, user.getId());
 
         notificationService.create(Notification.builder()
                 .member(member)
                 .content(String.format(Constants.NOTIFICATION_ROLE_MEMBER_CREATION_TEMPLATE, roleName, organization.getName()))
                 .build());
 
-        return roleMemberService.findByMemberAndRole(
-                    memberService.find(postRoleMemberRequest.getMember()).orElseThrow(
-                            () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-                    ),
-                    roleService.find(postRoleMemberRequest.getRole()).orElseThrow(
-                            () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-                    ))
-                .map(roleMemberToResponseFunction)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return roleMemberToResponseFunction.apply(createdRoleMember);
     }
 
     @Override
     public GetRoleMembersResponse createRoleMembers(PostRoleMembersRequest postRoleMembersRequest) {
         Set<BigInteger> memberIds = new HashSet<>();
-        Organization organization = roleService.find(postRoleMembersRequest.getRoleId()).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
-        ).getOrganization();
+        Role role = roleService.find(postRoleMembersRequest.getRoleId()).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        Organization organization = role.getOrganization();
 
         if (!securityService.hasPermission(organization, Constants.PERMISSION_NAME_CAN_MANAGE_ROLES)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Role role = roleService.find(postRoleMembersRequest.getRoleId()).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-
         for (PostRoleMembersRequest.RoleMember roleMemberRequest : postRoleMembersRequest.getRoleMembers()) {
-            BigInteger memberId = roleMemberRequest.getMemberId();
-            memberIds.add(memberId);
+            memberIds.add(roleMemberRequest.getMemberId());
+        }
 
-            Optional<Page<Role>> memberRoles = roleMemberService.findAllRolesByMember(memberId, Pageable.unpaged());
+        roleMemberService.findAllByRoleAndMemberIds(role, memberIds).stream()
+                .findFirst()
+                .ifPresent(existingRoleMember -> {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Member " + existingRoleMember.getMember().getId() + " already has the role");
+                });
 
-            if (memberRoles.isPresent() && memberRoles.get().stream().anyMatch(existingRole -> existingRole.equals(role))) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Member " + memberId + " already has the role");
-            }
-        }
+        List<Member> members = memberService.findAllByIds(memberIds);
+        Map<BigInteger, Member> membersById = members.stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
 
-        roleMemberService.createAll(requestToRoleMembersFunction.apply(postRoleMembersRequest));
+        List<RoleMember> newRoleMembers = requestToRoleMembersFunction.apply(postRoleMembersRequest);
 
-        Integer count = roleMemberService.findAllByRole(role, Pageable.unpaged()).getNumberOfElements();
+        for (RoleMember newRoleMember : newRoleMembers) {
+            Member member = membersById.get(newRoleMember.getMember().getId());
 
-        RoleMember roleMember = roleMemberService.findAllByRole(role, Pageable.unpaged()).getContent().get(0);
+            if (member == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+            }
 
-        roleMember.setMember(memberService.find(roleMember.getMember().getId()).get());
-        roleMemberService.update(roleMember);
+            newRoleMember.setMember(member);
+            newRoleMember.setRole(role);
+        }
 
-        memberIds.forEach(memberId -> notificationService.create(Notification.builder()
-                .member(memberService.find(memberId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)))
-                .content(String.format(Constants.NOTIFICATION_ROLE_MEMBER_CREATION_TEMPLATE, role.getName(), organization.getName()))
-                .build()));
+        List<RoleMember> createdRoleMembers = roleMemberService.createAll(newRoleMembers);
+        roleService.evictPermissions(organization);
+
+        notificationFanOut.toMembers(
+                members,
+                String.format(Constants.NOTIFICATION_ROLE_MEMBER_CREATION_TEMPLATE, role.getName(), organization.getName())
+        );
 
-        return roleMembersToResponseFunction.apply(roleMemberService.findAllByRole(
-                role,
-                Pageable.unpaged()
-        ), count);
+        return roleMembersToResponseFunction.apply(new PageImpl<>(createdRoleMembers));
     }
 
     @Override
@@ -246,7 +255,7 @@ public class RoleMemberDefaultController implements RoleMemberController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        keycloakController.removeUserFromKeycloakGroup(organization.getName(), user.getId(), role.getName());
+        keycloakSyncService.enqueueUserRemoval(organization, role.getName(), user.getId());
 
         notificationService.create(Notification.builder()
                 .member(member)
@@ -255,7 +264,10 @@ public class RoleMemberDefaultController implements RoleMemberController {
 
         roleMemberService.findByMemberAndRole(member, role)
                 .ifPresentOrElse(
-                        roleMember -> roleMemberService.delete(roleMember.getId()),
+                        roleMember -> {
+                            roleMemberService.delete(roleMember.getId());
+                            roleService.evictPermissions(organization);
+                        },
                         () -> {
                             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
                         }
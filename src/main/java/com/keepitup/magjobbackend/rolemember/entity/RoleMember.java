@@ -16,7 +16,10 @@ import java.math.BigInteger;
 @ToString
 @EqualsAndHashCode
 @Entity
-@Table(name = "role_members")
+@Table(name = "role_members", indexes = {
+        @Index(name = "idx_role_members_member_id", columnList = "member_id"),
+        @Index(name = "idx_role_members_role_id", columnList = "role_id")
+})
 public class RoleMember {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roleMemberSequenceGenerator")
@@ -5,12 +5,12 @@ import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class RoleMembersToResponseFunction implements BiFunction<Page<RoleMember>, Integer, GetRoleMembersResponse> {
+public class RoleMembersToResponseFunction implements Function<Page<RoleMember>, GetRoleMembersResponse> {
     @Override
-    public GetRoleMembersResponse apply(Page<RoleMember> roleMembers, Integer count) {
+    public GetRoleMembersResponse apply(Page<RoleMember> roleMembers) {
         return GetRoleMembersResponse.builder()
                 .roleMembers(roleMembers.stream()
                         .map(roleMember -> GetRoleMembersResponse.RoleMember.builder()
@@ -19,7 +19,7 @@ public class RoleMembersToResponseFunction implements BiFunction<Page<RoleMember
                                 .lastName(roleMember.getMember().getUser().getLastname())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(roleMembers.getTotalElements()))
                 .build();
     }
 }
@@ -1,15 +1,20 @@
 package com.keepitup.magjobbackend.rolemember.repository.api;
 
 import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface RoleMemberRepository extends JpaRepository<RoleMember, BigInteger> {
@@ -18,4 +23,11 @@ public interface RoleMemberRepository extends JpaRepository<RoleMember, BigInteg
     Page<RoleMember> findAllByRole(Role role, Pageable pageable);
 
     Optional<RoleMember> findByMemberAndRole(Member member, Role role);
+
+    List<RoleMember> findAllByRoleAndMember_IdIn(Role role, Collection<BigInteger> memberIds);
+
+    @EntityGraph(attributePaths = {"role", "member", "member.user"})
+    List<RoleMember> findAllByRole_OrganizationAndMember_IsStillMember(Organization organization, Boolean isStillMember);
+
+    boolean existsByMember_User_IdAndMember_IsStillMemberAndRole_IsAdmin(UUID userId, Boolean isStillMember, Boolean isAdmin);
 }
@@ -1,14 +1,17 @@
 package com.keepitup.magjobbackend.rolemember.service.api;
 
 import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface RoleMemberService {
 
@@ -24,13 +27,19 @@ public interface RoleMemberService {
 
     Page<RoleMember> findAllByRole(Role role, Pageable pageable);
 
+    List<RoleMember> findAllByRoleAndMemberIds(Role role, Collection<BigInteger> memberIds);
+
+    List<RoleMember> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember);
+
     Optional<Page<Role>> findAllRolesByMember(BigInteger memberId, Pageable pageable);
 
-    void create(RoleMember roleMember);
+    boolean isAdminInAnyOrganization(UUID userId);
+
+    RoleMember create(RoleMember roleMember);
 
-    void createAll(List<RoleMember> roleMembers);
+    List<RoleMember> createAll(List<RoleMember> roleMembers);
 
     void delete(BigInteger id);
 
-    void update(RoleMember roleMember);
+    RoleMember update(RoleMember roleMember);
 }
@@ -2,6 +2,7 @@ package com.keepitup.magjobbackend.rolemember.service.impl;
 
 import com.keepitup.magjobbackend.member.entity.Member;
 import com.keepitup.magjobbackend.member.repository.api.MemberRepository;
+import com.keepitup.magjobbackend.organization.entity.Organization;
 import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
 import com.keepitup.magjobbackend.rolemember.repository.api.RoleMemberRepository;
@@ -12,8 +13,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class RoleMemberDefaultService implements RoleMemberService {
@@ -58,6 +61,21 @@ public class RoleMemberDefaultService implements RoleMemberService {
         return roleMemberRepository.findAllByRole(role, pageable);
     }
 
+    @Override
+    public List<RoleMember> findAllByRoleAndMemberIds(Role role, Collection<BigInteger> memberIds) {
+        return roleMemberRepository.findAllByRoleAndMember_IdIn(role, memberIds);
+    }
+
+    @Override
+    public List<RoleMember> findAllByOrganizationAndIsStillMember(Organization organization, Boolean isStillMember) {
+        return roleMemberRepository.findAllByRole_OrganizationAndMember_IsStillMember(organization, isStillMember);
+    }
+
+    @Override
+    public boolean isAdminInAnyOrganization(UUID userId) {
+        return roleMemberRepository.existsByMember_User_IdAndMember_IsStillMemberAndRole_IsAdmin(userId, true, true);
+    }
+
     @Override
     public Optional<Page<Role>> findAllRolesByMember(BigInteger memberId, Pageable pageable) {
         return memberRepository.findById(memberId)
@@ -66,13 +84,13 @@ public class RoleMemberDefaultService implements RoleMemberService {
     }
 
     @Override
-    public void create(RoleMember roleMember) {
-        roleMemberRepository.save(roleMember);
+    public RoleMember create(RoleMember roleMember) {
+        return roleMemberRepository.save(roleMember);
     }
 
     @Override
-    public void createAll(List<RoleMember> roleMembers) {
-        roleMemberRepository.saveAll(roleMembers);
+    public List<RoleMember> createAll(List<RoleMember> roleMembers) {
+        return roleMemberRepository.saveAll(roleMembers);
     }
 
     @Override
@@ -81,7 +99,7 @@ public class RoleMemberDefaultService implements RoleMemberService {
     }
 
     @Override
-    public void update(RoleMember roleMember) {
-        roleMemberRepository.save(roleMember);
+    public RoleMember update(RoleMember roleMember) {
+        return roleMemberRepository.save(roleMember);
     }
 }
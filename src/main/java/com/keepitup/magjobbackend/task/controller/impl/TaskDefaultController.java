@@ -22,7 +22,6 @@ import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -74,8 +73,8 @@ public class TaskDefaultController implements TaskController {
         }
   
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = service.findAll().size();
-        return tasksToResponse.apply(service.findAll(pageRequest), count);
+        Page<Task> tasks = service.findAll(pageRequest);
+        return tasksToResponse.apply(tasks);
     }
 
     @Override
@@ -100,9 +99,9 @@ public class TaskDefaultController implements TaskController {
       
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = service.findAllByOrganization(organization, Pageable.unpaged()).getNumberOfElements();
+        Page<Task> tasks = service.findAllByOrganization(organization, pageRequest);
 
-        return tasksToResponse.apply(service.findAllByOrganization(organization, pageRequest), count);
+        return tasksToResponse.apply(tasks);
     }
 
     @Override
@@ -118,12 +117,10 @@ public class TaskDefaultController implements TaskController {
         PageRequest pageRequest = PageRequest.of(page, size);
         Optional<Page<Task>> tasksOptional = assigneeService.findAllTasksByMember(id, pageRequest);
 
-        Integer count = assigneeService.findAllTasksByMember(id, Pageable.unpaged()).get().getNumberOfElements();
-
         Page<Task> tasks = tasksOptional
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-        return tasksToResponse.apply(tasks, count);
+        return tasksToResponse.apply(tasks);
     }
 
     @Override
@@ -138,9 +135,9 @@ public class TaskDefaultController implements TaskController {
 
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Integer count = service.findAllByCreator(creator, Pageable.unpaged()).getNumberOfElements();
+        Page<Task> tasks = service.findAllByCreator(creator, pageRequest);
 
-        return tasksToResponse.apply(service.findAllByCreator(creator, pageRequest), count);
+        return tasksToResponse.apply(tasks);
     }
 
     @Override
@@ -162,16 +159,15 @@ public class TaskDefaultController implements TaskController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        Optional<Task> task = service.findByTitle(postTaskRequest.getTitle());
-
-        if (task.isPresent()) {
+        if (service.findByTitle(postTaskRequest.getTitle()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT);
-        } else {
-            service.create(requestToTask.apply(postTaskRequest));
         }
-        return service.findByTitle(postTaskRequest.getTitle())
-                .map(taskToResponse)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        Task task = requestToTask.apply(postTaskRequest);
+        task.setOrganization(organization.get());
+        task.setCreator(creator.get());
+
+        return taskToResponse.apply(service.create(task));
     }
 
     @Override
@@ -190,9 +186,7 @@ public class TaskDefaultController implements TaskController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
 
-        service.update(updateTaskWithRequest.apply(task, patchTaskRequest));
-
-        return taskToResponse.apply(service.find(id).get());
+        return taskToResponse.apply(service.update(updateTaskWithRequest.apply(task, patchTaskRequest)));
     }
 
     @Override
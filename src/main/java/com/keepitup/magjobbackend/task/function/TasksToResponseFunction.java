@@ -5,13 +5,13 @@ import com.keepitup.magjobbackend.task.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class TasksToResponseFunction implements BiFunction<Page<Task>, Integer, GetTasksResponse> {
+public class TasksToResponseFunction implements Function<Page<Task>, GetTasksResponse> {
 
     @Override
-    public GetTasksResponse apply(Page<Task> entities, Integer count) {
+    public GetTasksResponse apply(Page<Task> entities) {
         return GetTasksResponse.builder()
                 .tasks(entities.stream()
                         .map(task -> GetTasksResponse.Task.builder()
@@ -25,7 +25,7 @@ public class TasksToResponseFunction implements BiFunction<Page<Task>, Integer,
                                 .status(task.getStatus())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(entities.getTotalElements()))
                 .build();
     }
 }
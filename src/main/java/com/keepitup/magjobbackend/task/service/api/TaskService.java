@@ -38,9 +38,9 @@ public interface TaskService {
 
     Page<Task> findAllByDeadLine(ZonedDateTime deadLine, Pageable pageable);
 
-    void create(Task task);
+    Task create(Task task);
 
     void delete(BigInteger id);
 
-    void update(Task task);
+    Task update(Task task);
 }
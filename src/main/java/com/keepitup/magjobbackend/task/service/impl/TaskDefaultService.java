@@ -87,9 +87,9 @@ public class TaskDefaultService implements TaskService {
     }
 
     @Override
-    public void create(Task task) {
+    public Task create(Task task) {
         task.setDateOfCreation(ZonedDateTime.now());
-        taskRepository.save(task);
+        return taskRepository.save(task);
     }
 
     @Override
@@ -98,10 +98,10 @@ public class TaskDefaultService implements TaskService {
     }
 
     @Override
-    public void update(Task task) {
+    public Task update(Task task) {
         if (task.getStatus() == TaskStatus.DONE) {
             task.setDateOfCompletion(ZonedDateTime.now());
         }
-        taskRepository.save(task);
+        return taskRepository.save(task);
     }
 }
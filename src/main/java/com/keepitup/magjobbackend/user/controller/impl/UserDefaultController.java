@@ -12,6 +12,7 @@ import com.keepitup.magjobbackend.user.function.*;
 import com.keepitup.magjobbackend.user.service.impl.UserDefaultService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -56,8 +57,8 @@ public class UserDefaultController implements UserController {
     @Override
     public GetUsersResponse getUsers(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Integer count = service.findAll().size();
-        return usersToResponse.apply(service.findAll(pageRequest), count);
+        Page<User> users = service.findAll(pageRequest);
+        return usersToResponse.apply(users);
     }
 
     @Override
@@ -124,20 +125,17 @@ public class UserDefaultController implements UserController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not authorized to access this profile.");
         }
 
-        service.find(id)
-                .ifPresentOrElse(
-                    user -> {
-                        service.update(updateUserWithRequest.apply(user, patchUserRequest));
-
-                        notificationService.create(Notification.builder()
-                                .user(user)
-                                .content(Constants.NOTIFICATION_USER_UPDATE_TEMPLATE)
-                                .build());
-                    },
-                    () -> {
-                        throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-                    }
-                );
-        return getUser(id);
+        User user = service.find(id).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND)
+        );
+
+        User updatedUser = service.update(updateUserWithRequest.apply(user, patchUserRequest));
+
+        notificationService.create(Notification.builder()
+                .user(user)
+                .content(Constants.NOTIFICATION_USER_UPDATE_TEMPLATE)
+                .build());
+
+        return userToResponse.apply(updatedUser);
     }
 }
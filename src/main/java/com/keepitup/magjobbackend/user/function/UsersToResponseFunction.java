@@ -5,13 +5,13 @@ import com.keepitup.magjobbackend.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
-public class UsersToResponseFunction implements BiFunction<Page<User>, Integer, GetUsersResponse> {
+public class UsersToResponseFunction implements Function<Page<User>, GetUsersResponse> {
 
     @Override
-    public GetUsersResponse apply(Page<User> users, Integer count) {
+    public GetUsersResponse apply(Page<User> users) {
         return GetUsersResponse.builder()
                 .users(users.stream()
                         .map(user -> GetUsersResponse.User.builder()
@@ -20,7 +20,7 @@ public class UsersToResponseFunction implements BiFunction<Page<User>, Integer,
                                 .lastName(user.getLastname())
                                 .build())
                         .toList())
-                .count(count)
+                .count(Math.toIntExact(users.getTotalElements()))
                 .build();
     }
 }
@@ -27,5 +27,5 @@ public interface UserService {
     void register(User user);
     void delete(UUID id);
 
-    void update(User user);
+    User update(User user);
 }
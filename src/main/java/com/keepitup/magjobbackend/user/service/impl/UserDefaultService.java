@@ -70,7 +70,7 @@ public class UserDefaultService implements UserService {
     }
 
     @Override
-    public void update(User user) {
-        userRepository.save(user);
+    public User update(User user) {
+        return userRepository.save(user);
     }
 }
@@ -0,0 +1,107 @@
+package com.keepitup.magjobbackend.broker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BrokerFanOutRelayTest {
+
+    private InMemoryBrokerFanOutBus bus;
+
+    private Node first;
+
+    private Node second;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InMemoryBrokerFanOutBus();
+        first = new Node(bus);
+        second = new Node(bus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @Test
+    void testTopicMessageIsDeliveredToOtherNode() {
+        // Arrange
+        Message<byte[]> message = message(SimpMessageType.MESSAGE, "/topic/chat/1", "{\"content\":\"hi\"}");
+
+        // Act
+        first.brokerChannel.send(message);
+
+        // Assert
+        assertEquals(1, first.delivered.size());
+        assertEquals(1, second.delivered.size());
+        Message<?> received = second.delivered.get(0);
+        assertEquals("/topic/chat/1", SimpMessageHeaderAccessor.getDestination(received.getHeaders()));
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, SimpMessageHeaderAccessor.wrap(received).getContentType());
+        assertArrayEquals(message.getPayload(), (byte[]) received.getPayload());
+    }
+
+    @Test
+    void testReceivedMessageIsNotForwardedAgain() {
+        // Arrange
+        Node third = new Node(bus);
+
+        // Act
+        first.brokerChannel.send(message(SimpMessageType.MESSAGE, "/topic/chat/1", "{}"));
+
+        // Assert
+        assertEquals(1, first.delivered.size());
+        assertEquals(1, second.delivered.size());
+        assertEquals(1, third.delivered.size());
+    }
+
+    @Test
+    void testNonTopicMessageIsNotForwarded() {
+        // Arrange
+        Message<byte[]> subscription = message(SimpMessageType.SUBSCRIBE, "/topic/chat/1", "");
+        Message<byte[]> application = message(SimpMessageType.MESSAGE, "/app/chat/1/sendMessage", "{}");
+
+        // Act
+        first.brokerChannel.send(subscription);
+        first.brokerChannel.send(application);
+
+        // Assert
+        assertTrue(second.delivered.isEmpty());
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private static class Node {
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final List<Message<?>> delivered = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        Node(BrokerFanOutBus bus) {
+            ObjectProvider<MessageChannel> channelProvider = mock(ObjectProvider.class);
+            when(channelProvider.getObject()).thenReturn(brokerChannel);
+            brokerChannel.subscribe(delivered::add);
+            brokerChannel.addInterceptor(new BrokerFanOutRelay(bus, channelProvider, new SimpleMeterRegistry()));
+        }
+    }
+}
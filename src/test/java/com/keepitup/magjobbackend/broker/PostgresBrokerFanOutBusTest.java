@@ -0,0 +1,90 @@
+package com.keepitup.magjobbackend.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostgresBrokerFanOutBusTest {
+
+    private DataSource dataSource;
+
+    private PostgresBrokerFanOutBus bus;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = mock(DataSource.class);
+        bus = new PostgresBrokerFanOutBus(
+                dataSource, "magjob_broker", Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() throws JsonProcessingException {
+        // Arrange
+        BrokerFanOutMessage message = new BrokerFanOutMessage(
+                "node", "/topic/chat/1", "application/json", "{\"content\":\"zażółć\"}".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        BrokerFanOutMessage decoded = bus.decode(bus.encode(message));
+
+        // Assert
+        assertEquals(message, decoded);
+    }
+
+    @Test
+    void testOversizedMessageIsSplitIntoFramesWithinLimit() {
+        // Arrange
+        BrokerFanOutMessage message = new BrokerFanOutMessage(
+                "node", "/topic/chat/1", "application/json", "ż".repeat(PostgresBrokerFanOutBus.MAX_NOTIFICATION_BYTES).getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        List<String> frames = bus.frames(message);
+
+        // Assert
+        assertTrue(frames.size() > 1);
+        frames.forEach(frame ->
+                assertTrue(frame.getBytes(StandardCharsets.UTF_8).length <= PostgresBrokerFanOutBus.MAX_NOTIFICATION_BYTES));
+    }
+
+    @Test
+    void testFramesAreReassembledInAnyOrder() throws SQLException {
+        // Arrange
+        when(dataSource.getConnection()).thenThrow(new SQLException("Database is not available in this test"));
+        BrokerFanOutMessage message = new BrokerFanOutMessage(
+                "node", "/topic/chat/1", "application/json", "ż".repeat(PostgresBrokerFanOutBus.MAX_NOTIFICATION_BYTES).getBytes(StandardCharsets.UTF_8));
+        List<BrokerFanOutMessage> received = new ArrayList<>();
+        bus.subscribe(received::add);
+        List<String> frames = new ArrayList<>(bus.frames(message));
+        Collections.reverse(frames);
+
+        // Act
+        frames.forEach(bus::receive);
+
+        // Assert
+        assertEquals(List.of(message), received);
+    }
+
+    @Test
+    void testInvalidChannelNameIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                new PostgresBrokerFanOutBus(dataSource, "broker; drop table users",
+                        Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30)));
+    }
+}
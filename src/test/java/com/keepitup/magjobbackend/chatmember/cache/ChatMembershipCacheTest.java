@@ -0,0 +1,53 @@
+package com.keepitup.magjobbackend.chatmember.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMembershipCacheTest {
+
+    private InProcessChatMembershipInvalidationBus bus;
+    private ChatMembershipCache cache;
+    private AtomicInteger lookups;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessChatMembershipInvalidationBus();
+        cache = new ChatMembershipCache(bus, Duration.ofMinutes(1));
+        lookups = new AtomicInteger();
+    }
+
+    @Test
+    void testDecisionIsCachedPerSession() {
+        // Act
+        cache.isMember("session", BigInteger.ONE, this::lookup);
+        boolean result = cache.isMember("session", BigInteger.ONE, this::lookup);
+
+        // Assert
+        assertTrue(result);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testInvalidationFromAnotherNodeDropsDecision() {
+        // Arrange
+        cache.isMember("session", BigInteger.ONE, this::lookup);
+
+        // Act
+        bus.publish(BigInteger.ONE);
+        cache.isMember("session", BigInteger.ONE, this::lookup);
+
+        // Assert
+        assertEquals(2, lookups.get());
+    }
+
+    private boolean lookup() {
+        lookups.incrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,158 @@
+package com.keepitup.magjobbackend.chatmessage.ingest;
+
+import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmessage.dto.ChatMessageEvent;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatMessage;
+import com.keepitup.magjobbackend.chatmessage.repository.api.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriteBehindBufferTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<BigInteger> written;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        written = new ArrayList<>();
+        when(chatMessageRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<ChatMessage> batch = invocation.getArgument(0);
+            batch.forEach(chatMessage -> written.add(chatMessage.getId()));
+            return batch;
+        });
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage chatMessage = invocation.getArgument(0);
+            written.add(chatMessage.getId());
+            return chatMessage;
+        });
+    }
+
+    @Test
+    void testSubmitWritesThroughWhenNotRunning() {
+        // Arrange
+        ChatMessageWriteBehindBuffer buffer = buffer(true, 10);
+        ChatMessage chatMessage = chatMessage(1);
+
+        // Act
+        buffer.submit(chatMessage);
+
+        // Assert
+        verify(chatMessageRepository).save(chatMessage);
+        assertFalse(buffer.isPending(chatMessage.getId()));
+        assertEquals(1, meterRegistry.get("magjob.chat.write-behind.messages").tag("outcome", "written-through").counter().count());
+    }
+
+    @Test
+    void testStopFlushesAllQueuedMessagesInOrder() {
+        // Arrange
+        ChatMessageWriteBehindBuffer buffer = buffer(true, 10);
+        buffer.start();
+
+        // Act
+        for (int id = 1; id <= 5; id++) {
+            buffer.submit(chatMessage(id));
+        }
+        buffer.stop();
+
+        // Assert
+        assertEquals(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3), BigInteger.valueOf(4), BigInteger.valueOf(5)), written);
+        assertFalse(buffer.isRunning());
+        for (int id = 1; id <= 5; id++) {
+            assertFalse(buffer.isPending(BigInteger.valueOf(id)));
+        }
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+    }
+
+    @Test
+    void testFailedBatchIsRetriedOneByOne() {
+        // Arrange
+        ChatMessageWriteBehindBuffer buffer = buffer(true, 10);
+        ChatMessage broken = chatMessage(2);
+        doThrow(new IllegalStateException("batch")).when(chatMessageRepository).saveAll(anyIterable());
+        doThrow(new IllegalStateException("row")).when(chatMessageRepository).save(broken);
+        buffer.start();
+
+        // Act
+        buffer.submit(chatMessage(1));
+        buffer.submit(broken);
+        buffer.submit(chatMessage(3));
+        buffer.stop();
+
+        // Assert
+        assertEquals(List.of(BigInteger.ONE, BigInteger.valueOf(3)), written);
+        verify(chatMessageRepository, times(3)).save(broken);
+        assertFalse(buffer.isPending(broken.getId()));
+        assertEquals(1, meterRegistry.get("magjob.chat.write-behind.messages").tag("outcome", "lost").counter().count());
+        verify(messagingTemplate).convertAndSend("/topic/chat/1", ChatMessageEvent.builder()
+                .id(broken.getId())
+                .chatId(BigInteger.ONE)
+                .retracted(true)
+                .build());
+    }
+
+    @Test
+    void testAwaitWrittenReturnsOnceMessageIsWritten() {
+        // Arrange
+        ChatMessageWriteBehindBuffer buffer = buffer(true, 10);
+        ChatMessage chatMessage = chatMessage(1);
+        buffer.start();
+
+        // Act
+        buffer.submit(chatMessage);
+        buffer.awaitWritten(chatMessage.getId());
+
+        // Assert
+        assertFalse(buffer.isPending(chatMessage.getId()));
+        assertEquals(List.of(BigInteger.ONE), written);
+        buffer.stop();
+    }
+
+    @Test
+    void testDisabledBufferWritesThrough() {
+        // Arrange
+        ChatMessageWriteBehindBuffer buffer = buffer(false, 10);
+        buffer.start();
+
+        // Act
+        buffer.submit(chatMessage(1));
+
+        // Assert
+        assertFalse(buffer.isRunning());
+        verify(chatMessageRepository).save(any(ChatMessage.class));
+    }
+
+    private ChatMessageWriteBehindBuffer buffer(boolean enabled, int capacity) {
+        return new ChatMessageWriteBehindBuffer(chatMessageRepository, messagingTemplate, meterRegistry, enabled, capacity, 50,
+                Duration.ofMillis(5), Duration.ofMillis(50), Duration.ofSeconds(5), 3);
+    }
+
+    private static ChatMessage chatMessage(int id) {
+        return ChatMessage.builder()
+                .id(BigInteger.valueOf(id))
+                .content("Message " + id)
+                .chat(Chat.builder().id(BigInteger.ONE).build())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.keepitup.magjobbackend.chatmessage.service.impl;
+
+import com.keepitup.magjobbackend.chat.entity.Chat;
+import com.keepitup.magjobbackend.chatmember.entity.ChatMember;
+import com.keepitup.magjobbackend.chatmessage.entity.ChatReadWatermark;
+import com.keepitup.magjobbackend.chatmessage.ingest.ChatMessageIdAllocator;
+import com.keepitup.magjobbackend.chatmessage.ingest.ChatMessageWriteBehindBuffer;
+import com.keepitup.magjobbackend.chatmessage.repository.api.ChatMessageRepository;
+import com.keepitup.magjobbackend.chatmessage.repository.api.ChatReadWatermarkRepository;
+import com.keepitup.magjobbackend.member.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class ChatMessageDefaultServiceTest {
+
+    private ChatMessageDefaultService chatMessageService;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatReadWatermarkRepository chatReadWatermarkRepository;
+
+    @Mock
+    private ChatMessageIdAllocator idAllocator;
+
+    @Mock
+    private ChatMessageWriteBehindBuffer writeBehindBuffer;
+
+    private Chat chat;
+    private ChatMember chatMember;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        chatMessageService = new ChatMessageDefaultService(
+                chatMessageRepository,
+                chatReadWatermarkRepository,
+                idAllocator,
+                writeBehindBuffer
+        );
+        chat = Chat.builder().id(BigInteger.TWO).build();
+        chatMember = ChatMember.builder().id(BigInteger.TEN).chat(chat).build();
+    }
+
+    @Test
+    void testFindReadWatermarkDefaultsToZero() {
+        // Arrange
+        when(chatReadWatermarkRepository.findById(chatMember.getId())).thenReturn(Optional.empty());
+
+        // Act
+        BigInteger result = chatMessageService.findReadWatermark(chatMember);
+
+        // Assert
+        assertEquals(BigInteger.ZERO, result);
+    }
+
+    @Test
+    void testAdvanceReadWatermark() {
+        // Arrange
+        BigInteger lastReadMessageId = BigInteger.valueOf(42);
+
+        // Act
+        chatMessageService.advanceReadWatermark(chatMember, lastReadMessageId);
+
+        // Assert
+        verify(chatReadWatermarkRepository, times(1)).advance(chatMember.getId(), chat.getId(), lastReadMessageId);
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    void testAdvanceReadWatermarkWaitsForPendingMessage() {
+        // Arrange
+        BigInteger lastReadMessageId = BigInteger.valueOf(42);
+        when(writeBehindBuffer.isPending(lastReadMessageId)).thenReturn(true);
+
+        // Act
+        chatMessageService.advanceReadWatermark(chatMember, lastReadMessageId);
+
+        // Assert
+        InOrder inOrder = inOrder(writeBehindBuffer, chatReadWatermarkRepository);
+        inOrder.verify(writeBehindBuffer).awaitWritten(lastReadMessageId);
+        inOrder.verify(chatReadWatermarkRepository).advance(chatMember.getId(), chat.getId(), lastReadMessageId);
+    }
+
+    @Test
+    void testCountUnread() {
+        // Arrange
+        BigInteger lastReadMessageId = BigInteger.valueOf(42);
+        when(chatReadWatermarkRepository.findById(chatMember.getId())).thenReturn(Optional.of(ChatReadWatermark.builder()
+                .chatMemberId(chatMember.getId())
+                .lastReadMessageId(lastReadMessageId)
+                .build()));
+        when(chatMessageRepository.countByChatAndIdGreaterThanAndChatMemberNot(chat, lastReadMessageId, chatMember))
+                .thenReturn(3L);
+
+        // Act
+        long result = chatMessageService.countUnread(chatMember);
+
+        // Assert
+        assertEquals(3L, result);
+    }
+
+    @Test
+    void testCountUnreadByMember() {
+        // Arrange
+        Member member = new Member();
+        ChatMessageRepository.UnreadCount unreadCount = mock(ChatMessageRepository.UnreadCount.class);
+        when(unreadCount.getChatId()).thenReturn(chat.getId());
+        when(unreadCount.getUnreadCount()).thenReturn(5L);
+        when(chatMessageRepository.countUnreadByMember(member)).thenReturn(List.of(unreadCount));
+
+        // Act
+        Map<BigInteger, Long> result = chatMessageService.countUnreadByMember(member);
+
+        // Assert
+        assertEquals(Map.of(chat.getId(), 5L), result);
+    }
+}
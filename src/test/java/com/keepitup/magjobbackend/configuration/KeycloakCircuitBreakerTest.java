@@ -0,0 +1,77 @@
+package com.keepitup.magjobbackend.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeycloakCircuitBreakerTest {
+
+    private AtomicLong clock;
+    private KeycloakCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        circuitBreaker = new KeycloakCircuitBreaker(2, Duration.ofSeconds(30), clock::get);
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        // Act
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // Assert
+        assertEquals(KeycloakCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testSuccessResetsFailureCount() {
+        // Act
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        // Assert
+        assertEquals(KeycloakCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testAllowsSingleTrialAfterOpenDuration() {
+        // Arrange
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act
+        boolean trial = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+
+        // Assert
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(KeycloakCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testFailedTrialReopensCircuit() {
+        // Arrange
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquire();
+
+        // Act
+        circuitBreaker.recordFailure();
+
+        // Assert
+        assertEquals(KeycloakCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,48 @@
+package com.keepitup.magjobbackend.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WebSocketHandler delegate;
+
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(WebSocketHandler.class);
+        handler = new WebSocketSessionMetrics(meterRegistry).decorate(delegate);
+    }
+
+    @Test
+    void testOpenSessionsAndEvictionsAreCounted() throws Exception {
+        // Arrange
+        WebSocketSession first = mock(WebSocketSession.class);
+        WebSocketSession second = mock(WebSocketSession.class);
+        WebSocketSession third = mock(WebSocketSession.class);
+
+        // Act
+        handler.afterConnectionEstablished(first);
+        handler.afterConnectionEstablished(second);
+        handler.afterConnectionEstablished(third);
+        handler.afterConnectionClosed(first, CloseStatus.NORMAL);
+        handler.afterConnectionClosed(second, CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded"));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("magjob.websocket.sessions").gauge().value());
+        assertEquals(1, meterRegistry.get("magjob.websocket.sessions.evicted").counter().count());
+        verify(delegate).afterConnectionEstablished(third);
+        verify(delegate).afterConnectionClosed(eq(second), any(CloseStatus.class));
+    }
+}
@@ -0,0 +1,61 @@
+package com.keepitup.magjobbackend.keycloaksync.admin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeycloakGroupPathCacheTest {
+
+    private KeycloakGroupPathCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new KeycloakGroupPathCache(3);
+    }
+
+    @Test
+    void testGetReturnsCachedGroupId() {
+        // Act
+        cache.put("Org/Owner", "owner-id");
+
+        // Assert
+        assertEquals(Optional.of("owner-id"), cache.get("Org/Owner"));
+        assertEquals(Optional.empty(), cache.get("Org/Member"));
+    }
+
+    @Test
+    void testEvictDropsGroupAndSubgroups() {
+        // Arrange
+        cache.put("Org", "org-id");
+        cache.put("Org/Owner", "owner-id");
+        cache.put("Organization", "other-id");
+
+        // Act
+        cache.evict("Org");
+
+        // Assert
+        assertEquals(Optional.empty(), cache.get("Org"));
+        assertEquals(Optional.empty(), cache.get("Org/Owner"));
+        assertEquals(Optional.of("other-id"), cache.get("Organization"));
+    }
+
+    @Test
+    void testPutEvictsLeastRecentlyUsedEntryWhenFull() {
+        // Arrange
+        cache.put("A", "a");
+        cache.put("B", "b");
+        cache.put("C", "c");
+        cache.get("A");
+
+        // Act
+        cache.put("D", "d");
+
+        // Assert
+        assertEquals(3, cache.size());
+        assertEquals(Optional.empty(), cache.get("B"));
+        assertEquals(Optional.of("a"), cache.get("A"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.keepitup.magjobbackend.keycloaksync.reconciliation;
+
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.keycloaksync.worker.FakeKeycloakGroupAdmin;
+import com.keepitup.magjobbackend.member.entity.Member;
+import com.keepitup.magjobbackend.member.service.api.MemberService;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.organization.service.api.OrganizationService;
+import com.keepitup.magjobbackend.role.entity.Role;
+import com.keepitup.magjobbackend.role.service.api.RoleService;
+import com.keepitup.magjobbackend.rolemember.entity.RoleMember;
+import com.keepitup.magjobbackend.rolemember.service.api.RoleMemberService;
+import com.keepitup.magjobbackend.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KeycloakReconciliationJobTest {
+
+    private static final String ORGANIZATION_NAME = "Org";
+    private static final String MEMBER_GROUP = ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_MEMBER;
+    private static final String OWNER_GROUP = ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_OWNER;
+
+    @Mock
+    private OrganizationService organizationService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private RoleMemberService roleMemberService;
+
+    @Mock
+    private KeycloakSyncService keycloakSyncService;
+
+    private FakeKeycloakGroupAdmin groupAdmin;
+
+    private Organization organization;
+
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        groupAdmin = new FakeKeycloakGroupAdmin();
+        organization = Organization.builder().id(BigInteger.ONE).name(ORGANIZATION_NAME).build();
+        ownerId = UUID.randomUUID();
+
+        groupAdmin.createOrganizationGroups(ORGANIZATION_NAME, ownerId);
+
+        Role owner = Role.builder().name(Constants.ROLE_NAME_OWNER).organization(organization).build();
+        Member ownerMember = member(ownerId);
+        when(roleService.findAllByOrganization(eq(organization), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(
+                        owner,
+                        Role.builder().name(Constants.ROLE_NAME_MODERATOR).organization(organization).build(),
+                        Role.builder().name(Constants.ROLE_NAME_MEMBER).organization(organization).build()
+                )));
+        when(memberService.findAllByOrganizationAndIsStillMember(organization, true)).thenReturn(List.of(ownerMember));
+        when(roleMemberService.findAllByOrganizationAndIsStillMember(organization, true))
+                .thenReturn(List.of(RoleMember.builder().role(owner).member(ownerMember).build()));
+    }
+
+    @Test
+    void testReconcileAddsMissingAndRemovesSurplusMembers() {
+        // Arrange
+        UUID formerMemberId = UUID.randomUUID();
+        groupAdmin.addUserToGroup(MEMBER_GROUP, formerMemberId);
+        groupAdmin.addUserToGroup(OWNER_GROUP, formerMemberId);
+        KeycloakReconciliationJob job = job(100);
+
+        // Act
+        int changes = job.reconcile(organization);
+
+        // Assert
+        assertEquals(3, changes);
+        assertEquals(Set.of(ownerId), groupAdmin.findGroupMemberIds(MEMBER_GROUP, 10));
+        assertEquals(Set.of(ownerId), groupAdmin.findGroupMemberIds(OWNER_GROUP, 10));
+    }
+
+    @Test
+    void testReconcileIsNoOpWhenInSync() {
+        // Arrange
+        groupAdmin.addUserToGroup(MEMBER_GROUP, ownerId);
+        KeycloakReconciliationJob job = job(100);
+
+        // Act
+        int changes = job.reconcile(organization);
+
+        // Assert
+        assertEquals(0, changes);
+    }
+
+    @Test
+    void testReconcileStopsAtMaxChangesPerOrganization() {
+        // Arrange
+        groupAdmin.addUserToGroup(MEMBER_GROUP, UUID.randomUUID());
+        groupAdmin.addUserToGroup(MEMBER_GROUP, UUID.randomUUID());
+        groupAdmin.addUserToGroup(MEMBER_GROUP, UUID.randomUUID());
+        KeycloakReconciliationJob job = job(2);
+
+        // Act
+        int changes = job.reconcile(organization);
+
+        // Assert
+        assertEquals(2, changes);
+    }
+
+    @Test
+    void testReconcileSkipsOrganizationWithPendingSyncTasks() {
+        // Arrange
+        groupAdmin.addUserToGroup(MEMBER_GROUP, UUID.randomUUID());
+        when(keycloakSyncService.hasPending(BigInteger.ONE)).thenReturn(true);
+        KeycloakReconciliationJob job = job(100);
+
+        // Act
+        int changes = job.reconcile(organization);
+
+        // Assert
+        assertEquals(0, changes);
+        verifyNoInteractions(memberService, roleMemberService);
+    }
+
+    private KeycloakReconciliationJob job(int maxChangesPerOrganization) {
+        return new KeycloakReconciliationJob(organizationService, roleService, memberService, roleMemberService,
+                keycloakSyncService, groupAdmin, new SimpleMeterRegistry(), 10, maxChangesPerOrganization);
+    }
+
+    private Member member(UUID userId) {
+        return Member.builder()
+                .user(User.builder().id(userId).build())
+                .organization(organization)
+                .isStillMember(true)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.keepitup.magjobbackend.keycloaksync.service.impl;
+
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncOperation;
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import com.keepitup.magjobbackend.keycloaksync.repository.api.KeycloakSyncLeaseRepository;
+import com.keepitup.magjobbackend.keycloaksync.repository.api.KeycloakSyncTaskRepository;
+import com.keepitup.magjobbackend.keycloaksync.worker.KeycloakSyncRequestedEvent;
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class KeycloakSyncDefaultServiceTest {
+
+    @Mock
+    private KeycloakSyncTaskRepository keycloakSyncTaskRepository;
+
+    @Mock
+    private KeycloakSyncLeaseRepository keycloakSyncLeaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private KeycloakSyncDefaultService keycloakSyncDefaultService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        keycloakSyncDefaultService = new KeycloakSyncDefaultService(keycloakSyncTaskRepository, keycloakSyncLeaseRepository, eventPublisher,
+                3, Duration.ofSeconds(1), Duration.ofSeconds(10), true, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testEnqueueUserAddition() {
+        // Arrange
+        Organization organization = Organization.builder()
+                .id(BigInteger.ONE)
+                .name("Org")
+                .build();
+        UUID userId = UUID.randomUUID();
+        ArgumentCaptor<KeycloakSyncTask> captor = ArgumentCaptor.forClass(KeycloakSyncTask.class);
+
+        // Act
+        keycloakSyncDefaultService.enqueueUserAddition(organization, "Member", userId);
+
+        // Assert
+        verify(keycloakSyncTaskRepository).save(captor.capture());
+        KeycloakSyncTask task = captor.getValue();
+        assertEquals(KeycloakSyncOperation.ADD_USER_TO_GROUP, task.getOperation());
+        assertEquals(BigInteger.ONE, task.getOrganizationId());
+        assertEquals("Org/Member", task.getGroupPath());
+        assertEquals(userId, task.getUserId());
+        assertNotNull(task.getNextAttemptAt());
+        verify(eventPublisher).publishEvent(any(KeycloakSyncRequestedEvent.class));
+    }
+
+    @Test
+    void testEnqueueUserAdditionSkippedWhenMembershipChangesDisabled() {
+        // Arrange
+        keycloakSyncDefaultService = new KeycloakSyncDefaultService(keycloakSyncTaskRepository, keycloakSyncLeaseRepository, eventPublisher,
+                3, Duration.ofSeconds(1), Duration.ofSeconds(10), false, Duration.ofMinutes(5));
+        Organization organization = Organization.builder()
+                .id(BigInteger.ONE)
+                .name("Org")
+                .build();
+
+        // Act
+        keycloakSyncDefaultService.enqueueUserAddition(organization, "Member", UUID.randomUUID());
+
+        // Assert
+        verify(keycloakSyncTaskRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testClaimDueSkipsOrganizationLeasedByAnotherNode() {
+        // Arrange
+        BigInteger leasedOrganizationId = BigInteger.TWO;
+        KeycloakSyncTask free = KeycloakSyncTask.builder().id(BigInteger.ONE).organizationId(BigInteger.ONE).build();
+        KeycloakSyncTask leased = KeycloakSyncTask.builder().id(BigInteger.TWO).organizationId(leasedOrganizationId).build();
+        when(keycloakSyncTaskRepository.findDue(any(), any(), any())).thenReturn(List.of(free, leased));
+        when(keycloakSyncLeaseRepository.acquire(eq(BigInteger.ONE), anyString(), anyLong())).thenReturn(1);
+        when(keycloakSyncLeaseRepository.acquire(eq(leasedOrganizationId), anyString(), anyLong())).thenReturn(0);
+        when(keycloakSyncTaskRepository.findDueByOrganization(any(), eq(BigInteger.ONE), any())).thenReturn(List.of(free));
+
+        // Act
+        List<KeycloakSyncTask> result = keycloakSyncDefaultService.claimDue(List.of(), 10);
+
+        // Assert
+        assertEquals(List.of(free), result);
+        verify(keycloakSyncTaskRepository, never()).findDueByOrganization(any(), eq(leasedOrganizationId), any());
+    }
+
+    @Test
+    void testClaimDueReleasesLeaseWhenNoTaskIsLeft() {
+        // Arrange
+        KeycloakSyncTask applied = KeycloakSyncTask.builder().id(BigInteger.ONE).organizationId(BigInteger.ONE).build();
+        when(keycloakSyncTaskRepository.findDue(any(), any(), any())).thenReturn(List.of(applied));
+        when(keycloakSyncLeaseRepository.acquire(eq(BigInteger.ONE), anyString(), anyLong())).thenReturn(1);
+        when(keycloakSyncTaskRepository.findDueByOrganization(any(), eq(BigInteger.ONE), any())).thenReturn(List.of());
+
+        // Act
+        List<KeycloakSyncTask> result = keycloakSyncDefaultService.claimDue(List.of(), 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(keycloakSyncLeaseRepository).release(eq(BigInteger.ONE), anyString());
+    }
+
+    @Test
+    void testRegisterFailureSchedulesRetry() {
+        // Arrange
+        KeycloakSyncTask task = KeycloakSyncTask.builder()
+                .id(BigInteger.ONE)
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        // Act
+        boolean deadLettered = keycloakSyncDefaultService.registerFailure(task, new IllegalStateException("down"));
+
+        // Assert
+        assertFalse(deadLettered);
+        assertEquals(2, task.getAttempts());
+        assertTrue(task.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(1)));
+        assertTrue(task.getLastError().contains("down"));
+        verify(keycloakSyncTaskRepository).save(task);
+    }
+
+    @Test
+    void testRegisterFailureDeadLettersAfterMaxAttempts() {
+        // Arrange
+        KeycloakSyncTask task = KeycloakSyncTask.builder()
+                .id(BigInteger.ONE)
+                .attempts(2)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        // Act
+        boolean deadLettered = keycloakSyncDefaultService.registerFailure(task, new IllegalStateException("down"));
+
+        // Assert
+        assertTrue(deadLettered);
+        assertTrue(task.isDeadLettered());
+        verify(keycloakSyncTaskRepository).save(task);
+    }
+}
@@ -0,0 +1,80 @@
+package com.keepitup.magjobbackend.keycloaksync.worker;
+
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.keycloaksync.admin.KeycloakGroupAdmin;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory stand-in for the Keycloak admin API, keyed by group path.
+ */
+public class FakeKeycloakGroupAdmin implements KeycloakGroupAdmin {
+    final Map<String, String> groupIds = new HashMap<>();
+    final Map<String, Set<UUID>> groupMembers = new HashMap<>();
+
+    @Override
+    public Map<String, String> createOrganizationGroups(String organizationName, UUID ownerId) {
+        Map<String, String> roleName2ExternalId = new HashMap<>();
+        groupIds.computeIfAbsent(organizationName, path -> UUID.randomUUID().toString());
+
+        for (String roleName : Constants.DEFAULT_ROLE_NAMES) {
+            roleName2ExternalId.put(roleName, createGroup(organizationName, roleName));
+        }
+
+        addUserToGroup(organizationName + "/" + Constants.ROLE_NAME_OWNER, ownerId);
+        return roleName2ExternalId;
+    }
+
+    @Override
+    public String createGroup(String parentGroupPath, String groupName) {
+        requireGroup(parentGroupPath);
+        return groupIds.computeIfAbsent(parentGroupPath + "/" + groupName, path -> UUID.randomUUID().toString());
+    }
+
+    @Override
+    public void deleteGroup(String groupPath) {
+        groupIds.remove(groupPath);
+        groupMembers.remove(groupPath);
+    }
+
+    @Override
+    public void addUserToGroup(String groupPath, UUID userId) {
+        requireGroup(groupPath);
+        groupMembers.computeIfAbsent(groupPath, path -> new HashSet<>()).add(userId);
+    }
+
+    @Override
+    public void removeUserFromGroup(String groupPath, UUID userId) {
+        groupMembers.getOrDefault(groupPath, new HashSet<>()).remove(userId);
+    }
+
+    @Override
+    public Map<String, String> findSubgroupIds(String parentGroupPath, int pageSize) {
+        Map<String, String> groupName2Id = new HashMap<>();
+        String subgroupPrefix = parentGroupPath + "/";
+
+        groupIds.forEach((path, id) -> {
+            if (path.startsWith(subgroupPrefix) && path.indexOf('/', subgroupPrefix.length()) < 0) {
+                groupName2Id.put(path.substring(subgroupPrefix.length()), id);
+            }
+        });
+
+        return groupName2Id;
+    }
+
+    @Override
+    public Set<UUID> findGroupMemberIds(String groupPath, int pageSize) {
+        requireGroup(groupPath);
+        return new HashSet<>(groupMembers.getOrDefault(groupPath, new HashSet<>()));
+    }
+
+    private void requireGroup(String groupPath) {
+        if (!groupIds.containsKey(groupPath)) {
+            throw new IllegalStateException("Group not found: " + groupPath);
+        }
+    }
+}
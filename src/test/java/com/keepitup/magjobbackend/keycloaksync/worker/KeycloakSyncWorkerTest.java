@@ -0,0 +1,119 @@
+package com.keepitup.magjobbackend.keycloaksync.worker;
+
+import com.keepitup.magjobbackend.configuration.Constants;
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncOperation;
+import com.keepitup.magjobbackend.keycloaksync.entity.KeycloakSyncTask;
+import com.keepitup.magjobbackend.keycloaksync.service.api.KeycloakSyncService;
+import com.keepitup.magjobbackend.role.service.api.RoleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KeycloakSyncWorkerTest {
+
+    private static final BigInteger ORGANIZATION_ID = BigInteger.TEN;
+    private static final String ORGANIZATION_NAME = "Org";
+
+    @Mock
+    private KeycloakSyncService syncService;
+
+    @Mock
+    private RoleService roleService;
+
+    private FakeKeycloakGroupAdmin groupAdmin;
+
+    private KeycloakSyncWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        groupAdmin = new FakeKeycloakGroupAdmin();
+        worker = new KeycloakSyncWorker(syncService, groupAdmin, roleService, Runnable::run, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void testDrainAppliesTasksOfOrganizationInOrder() {
+        // Arrange
+        UUID ownerId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        KeycloakSyncTask organizationGroups = task(1, KeycloakSyncOperation.CREATE_ORGANIZATION_GROUPS, null, ownerId);
+        KeycloakSyncTask roleGroup = task(2, KeycloakSyncOperation.CREATE_GROUP, "Editors", null);
+        KeycloakSyncTask userAddition = task(3, KeycloakSyncOperation.ADD_USER_TO_GROUP, "Editors", userId);
+        when(syncService.claimDue(anyCollection(), anyInt()))
+                .thenReturn(List.of(organizationGroups, roleGroup, userAddition), List.of());
+
+        // Act
+        worker.drain();
+
+        // Assert
+        assertEquals(Set.of(ownerId), groupAdmin.groupMembers.get(ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_OWNER));
+        assertEquals(Set.of(userId), groupAdmin.groupMembers.get(ORGANIZATION_NAME + "/Editors"));
+        verify(roleService).updateExternalIds(
+                ORGANIZATION_ID, Map.of("Editors", groupAdmin.groupIds.get(ORGANIZATION_NAME + "/Editors")));
+        verify(syncService).complete(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3)));
+        verify(syncService, never()).registerFailure(any(), any());
+        verify(syncService).release(ORGANIZATION_ID);
+    }
+
+    @Test
+    void testDrainStopsOrganizationAtRetriedTask() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        groupAdmin.groupIds.put(ORGANIZATION_NAME, "org");
+        groupAdmin.groupIds.put(ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_MEMBER, "member");
+        KeycloakSyncTask failing = task(1, KeycloakSyncOperation.ADD_USER_TO_GROUP, "Missing", userId);
+        KeycloakSyncTask later = task(2, KeycloakSyncOperation.ADD_USER_TO_GROUP, Constants.ROLE_NAME_MEMBER, userId);
+        when(syncService.claimDue(anyCollection(), anyInt())).thenReturn(List.of(failing, later), List.of());
+        when(syncService.registerFailure(eq(failing), any())).thenReturn(false);
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(syncService).registerFailure(eq(failing), any(IllegalStateException.class));
+        assertNull(groupAdmin.groupMembers.get(ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_MEMBER));
+        verify(syncService, never()).complete(any());
+    }
+
+    @Test
+    void testDrainSkipsDeadLetteredTask() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        groupAdmin.groupIds.put(ORGANIZATION_NAME, "org");
+        groupAdmin.groupIds.put(ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_MEMBER, "member");
+        KeycloakSyncTask failing = task(1, KeycloakSyncOperation.ADD_USER_TO_GROUP, "Missing", userId);
+        KeycloakSyncTask later = task(2, KeycloakSyncOperation.ADD_USER_TO_GROUP, Constants.ROLE_NAME_MEMBER, userId);
+        when(syncService.claimDue(anyCollection(), anyInt())).thenReturn(List.of(failing, later), List.of());
+        when(syncService.registerFailure(eq(failing), any())).thenReturn(true);
+
+        // Act
+        worker.drain();
+
+        // Assert
+        assertEquals(Set.of(userId), groupAdmin.groupMembers.get(ORGANIZATION_NAME + "/" + Constants.ROLE_NAME_MEMBER));
+        verify(syncService).complete(List.of(BigInteger.TWO));
+    }
+
+    private static KeycloakSyncTask task(long id, KeycloakSyncOperation operation, String roleName, UUID userId) {
+        return KeycloakSyncTask.builder()
+                .id(BigInteger.valueOf(id))
+                .operation(operation)
+                .organizationId(ORGANIZATION_ID)
+                .organizationName(ORGANIZATION_NAME)
+                .roleName(roleName)
+                .userId(userId)
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -70,6 +71,20 @@ class MemberDefaultServiceTest {
         assertSame(expectedMember, result.get());
     }
 
+    @Test
+    void testFindAllByIds() {
+        // Arrange
+        List<BigInteger> ids = List.of(BigInteger.ONE, BigInteger.TWO);
+        List<Member> expectedMembers = List.of(new Member(), new Member());
+        when(memberRepository.findAllById(ids)).thenReturn(expectedMembers);
+
+        // Act
+        List<Member> result = memberService.findAllByIds(ids);
+
+        // Assert
+        assertEquals(expectedMembers, result);
+    }
+
     @Test
     void testFindByIdAndIsStillMember() {
         // Arrange
@@ -194,6 +209,23 @@ class MemberDefaultServiceTest {
         assertSame(expectedMember, result.get());
     }
 
+    @Test
+    void testFindActiveByUserIdAndOrganizationId() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        BigInteger organizationId = BigInteger.ONE;
+        Member expectedMember = new Member();
+        when(memberRepository.findByUser_IdAndOrganization_IdAndIsStillMember(userId, organizationId, true))
+                .thenReturn(Optional.of(expectedMember));
+
+        // Act
+        Optional<Member> result = memberService.findActiveByUserIdAndOrganizationId(userId, organizationId);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertSame(expectedMember, result.get());
+    }
+
     @Test
     void testCreate() {
         // Arrange
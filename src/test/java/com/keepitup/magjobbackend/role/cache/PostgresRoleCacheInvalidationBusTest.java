@@ -0,0 +1,64 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.keepitup.magjobbackend.broker.PostgresNotificationChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostgresRoleCacheInvalidationBusTest {
+
+    private PostgresNotificationChannel channel;
+    private Consumer<String> notificationListener;
+    private PostgresRoleCacheInvalidationBus bus;
+    private List<RoleCacheInvalidation> received;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        channel = mock(PostgresNotificationChannel.class);
+        bus = new PostgresRoleCacheInvalidationBus(channel);
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).subscribe(captor.capture());
+        notificationListener = captor.getValue();
+        received = new ArrayList<>();
+        bus.subscribe(received::add);
+    }
+
+    @Test
+    void testPublishDeliversLocallyAndSkipsOwnNotification() {
+        // Arrange
+        RoleCacheInvalidation invalidation = RoleCacheInvalidation.ofRole(BigInteger.ONE, "Owner");
+        ArgumentCaptor<String> notification = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        bus.publish(invalidation);
+        verify(channel).send(notification.capture());
+        notificationListener.accept(notification.getValue());
+
+        // Assert
+        assertEquals(List.of(invalidation), received);
+    }
+
+    @Test
+    void testNotificationFromOtherNodeIsDelivered() {
+        // Arrange
+        PostgresRoleCacheInvalidationBus otherNode = new PostgresRoleCacheInvalidationBus(mock(PostgresNotificationChannel.class));
+        String notification = otherNode.encode(RoleCacheInvalidation.ofOrganization(BigInteger.TWO));
+
+        // Act
+        notificationListener.accept(notification);
+
+        // Assert
+        assertEquals(List.of(RoleCacheInvalidation.ofOrganization(BigInteger.TWO)), received);
+        verify(channel, never()).send(any());
+    }
+}
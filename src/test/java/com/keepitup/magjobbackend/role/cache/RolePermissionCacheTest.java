@@ -0,0 +1,93 @@
+package com.keepitup.magjobbackend.role.cache;
+
+import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.role.entity.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RolePermissionCacheTest {
+
+    private AtomicLong clock;
+    private List<Collection<String>> loads;
+    private RolePermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        loads = new ArrayList<>();
+        cache = new RolePermissionCache(new InProcessRoleCacheInvalidationBus(), 2, Duration.ofMinutes(1), clock::get);
+    }
+
+    @Test
+    void testGetAllLoadsOnlyMissingRoles() {
+        // Act
+        cache.getAll(BigInteger.ONE, List.of("Owner"), this::load);
+        Map<String, RolePermissions> result = cache.getAll(BigInteger.ONE, List.of("Owner", "Member"), this::load);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.get("Owner").isAdmin());
+        assertEquals(List.of(List.of("Owner"), List.of("Member")), loads);
+    }
+
+    @Test
+    void testEntriesExpireAfterTimeToLive() {
+        // Arrange
+        cache.getAll(BigInteger.ONE, List.of("Owner"), this::load);
+
+        // Act
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.getAll(BigInteger.ONE, List.of("Owner"), this::load);
+
+        // Assert
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        // Act
+        cache.getAll(BigInteger.ONE, List.of("Owner", "Member", "Manager"), this::load);
+
+        // Assert
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testEvictOrganizationDropsOnlyThatOrganization() {
+        // Arrange
+        cache.getAll(BigInteger.ONE, List.of("Owner"), this::load);
+        cache.getAll(BigInteger.TWO, List.of("Owner"), this::load);
+
+        // Act
+        cache.evictOrganization(BigInteger.ONE);
+
+        // Assert
+        assertEquals(1, cache.size());
+    }
+
+    private Collection<Role> load(Collection<String> names) {
+        loads.add(List.copyOf(names));
+        Organization organization = new Organization();
+        return names.stream()
+                .map(name -> Role.builder()
+                        .name(name)
+                        .organization(organization)
+                        .isAdmin("Owner".equals(name))
+                        .canManageTasks(false)
+                        .canManageAnnouncements(false)
+                        .canManageInvitations(false)
+                        .canManageRoles(false)
+                        .build())
+                .toList();
+    }
+}
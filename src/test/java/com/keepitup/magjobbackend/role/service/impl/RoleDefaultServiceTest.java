@@ -1,6 +1,7 @@
 package com.keepitup.magjobbackend.role.service.impl;
 
 import com.keepitup.magjobbackend.organization.entity.Organization;
+import com.keepitup.magjobbackend.role.cache.RolePermissionCache;
 import com.keepitup.magjobbackend.role.entity.Role;
 import com.keepitup.magjobbackend.role.repository.api.RoleRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +29,9 @@ class RoleDefaultServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private RolePermissionCache rolePermissionCache;
+
     @InjectMocks
     private RoleDefaultService roleDefaultService;
 
@@ -83,6 +88,22 @@ class RoleDefaultServiceTest {
         assertEquals(externalId, result.get().getExternalId());
     }
 
+    @Test
+    void testFindAllByOrganizationAndNameIn() {
+        // Arrange
+        Organization organization = new Organization();
+        List<String> names = Arrays.asList("Owner", "Member");
+        List<Role> roles = Arrays.asList(new Role(), new Role());
+        when(roleRepository.findAllByOrganizationAndNameIn(organization, names)).thenReturn(roles);
+
+        // Act
+        List<Role> result = roleDefaultService.findAllByOrganizationAndNameIn(organization, names);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(roleRepository, times(1)).findAllByOrganizationAndNameIn(organization, names);
+    }
+
     @Test
     void testFindAll() {
         // Arrange
@@ -163,4 +184,51 @@ class RoleDefaultServiceTest {
         // Assert
         verify(roleRepository, times(1)).save(role);
     }
+
+    @Test
+    void testUpdateEvictsOrganizationPermissions() {
+        // Arrange
+        Organization organization = new Organization();
+        organization.setId(BigInteger.ONE);
+        Role role = new Role();
+        role.setOrganization(organization);
+
+        // Act
+        roleDefaultService.update(role);
+
+        // Assert
+        verify(rolePermissionCache, times(1)).evictOrganization(BigInteger.ONE);
+    }
+
+    @Test
+    void testFindByOrganizationNameAndName() {
+        // Arrange
+        Role role = new Role();
+        role.setName("Owner");
+        when(roleRepository.findByOrganizationNameAndName("Org", "Owner")).thenReturn(Optional.of(role));
+
+        // Act
+        Optional<Role> result = roleDefaultService.findByOrganizationNameAndName("Org", "Owner");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("Owner", result.get().getName());
+    }
+
+    @Test
+    void testUpdateExternalIds() {
+        // Arrange
+        Role role = new Role();
+        role.setName("Owner");
+        Map<String, String> roleName2ExternalId = Map.of("Owner", "group-id");
+        when(roleRepository.findAllByOrganizationIdAndNameIn(BigInteger.ONE, roleName2ExternalId.keySet()))
+                .thenReturn(List.of(role));
+
+        // Act
+        roleDefaultService.updateExternalIds(BigInteger.ONE, roleName2ExternalId);
+
+        // Assert
+        assertEquals("group-id", role.getExternalId());
+        verify(roleRepository, times(1)).saveAll(List.of(role));
+    }
 }
@@ -18,6 +18,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -168,4 +169,18 @@ class RoleMemberDefaultServiceTest {
         // Assert
         verify(roleMemberRepository, times(1)).save(roleMember);
     }
+
+    @Test
+    void testIsAdminInAnyOrganization() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(roleMemberRepository.existsByMember_User_IdAndMember_IsStillMemberAndRole_IsAdmin(userId, true, true))
+                .thenReturn(true);
+
+        // Act
+        boolean result = roleMemberDefaultService.isAdminInAnyOrganization(userId);
+
+        // Assert
+        assertTrue(result);
+    }
 }